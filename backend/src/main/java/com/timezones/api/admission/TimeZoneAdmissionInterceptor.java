@@ -0,0 +1,203 @@
+package com.timezones.api.admission;
+
+import com.timezones.configuration.TimeZonesProperties;
+import com.timezones.domain.exceptions.TimeZoneOverloadException;
+import com.timezones.domain.exceptions.TimeZoneRateLimitException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admits a request on a time zone endpoint only if its client still has a token for this endpoint, and if the
+ * service is not already processing as many requests as it can, before any service or database work.
+ * Streamed exports hold a database connection until they end, long after the request thread is released: they also
+ * need one of the few export permits, kept until the asynchronous response completes.
+ * Rejections are exceptions turned into 429 and 503 responses, with a Retry-After, by TimeZoneExceptionHandler.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class TimeZoneAdmissionInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String REJECTED = "timezones.admission.rejected";
+
+    private static final String START = TimeZoneAdmissionInterceptor.class.getName() + ".START";
+
+    private static final String EXPORT = TimeZoneAdmissionInterceptor.class.getName() + ".EXPORT";
+
+    private final TimeZonesProperties properties;
+
+    private final TimeZoneRateLimiter rateLimiter;
+
+    private final TimeZoneConcurrencyLimiter concurrencyLimiter;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Semaphore exports;
+
+    // Resolved once per controller method
+    private final Map<Method, String> endpoints = new ConcurrentHashMap<>();
+
+    private final Map<Method, Boolean> exportMethods = new ConcurrentHashMap<>();
+
+    public TimeZoneAdmissionInterceptor(
+            TimeZonesProperties properties,
+            TimeZoneRateLimiter rateLimiter,
+            TimeZoneConcurrencyLimiter concurrencyLimiter,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.rateLimiter = rateLimiter;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.meterRegistry = meterRegistry;
+        this.exports = new Semaphore(properties.getAdmission().getMaxConcurrentExports());
+    }
+
+    @Override
+    public boolean preHandle(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull Object handler
+    ) throws TimeZoneRateLimitException, TimeZoneOverloadException {
+        // Admitted once on the first dispatch, an asynchronous response dispatches again when it completes
+        // Checked on each request rather than as a bean condition, which process-aot would fix at build time
+        if (request.getDispatcherType() == DispatcherType.ASYNC || !properties.getAdmission().isEnabled()) {
+            return true;
+        }
+
+        long wait = rateLimiter.tryAcquire(this.endpoint(handler), this.client(request));
+        if (wait > 0) {
+            this.reject("rate-limit", request);
+            throw new TimeZoneRateLimitException((wait + 999_999_999L) / 1_000_000_000L);
+        }
+
+        if (this.isExport(handler)) {
+            if (!exports.tryAcquire()) {
+                this.reject("exports", request);
+                throw new TimeZoneOverloadException();
+            }
+            request.setAttribute(EXPORT, new AtomicBoolean(true));
+        }
+
+        if (!concurrencyLimiter.tryAcquire()) {
+            this.releaseExport(request);
+            this.reject("concurrency", request);
+            throw new TimeZoneOverloadException();
+        }
+        request.setAttribute(START, System.nanoTime());
+        return true;
+    }
+
+    // The request thread is done, but an export keeps its permit until the response completes, the async dispatch
+    // that follows usually releases it, the listener covers a client gone before it
+    @Override
+    public void afterConcurrentHandlingStarted(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull Object handler
+    ) {
+        this.release(request);
+        if (request.getAttribute(EXPORT) != null) {
+            request.getAsyncContext().addListener(new AsyncListener() {
+                @Override
+                public void onComplete(AsyncEvent event) {
+                    releaseExport(request);
+                }
+
+                @Override
+                public void onTimeout(AsyncEvent event) {
+                }
+
+                @Override
+                public void onError(AsyncEvent event) {
+                }
+
+                @Override
+                public void onStartAsync(AsyncEvent event) {
+                }
+            });
+        }
+    }
+
+    @Override
+    public void afterCompletion(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull Object handler,
+            Exception ex
+    ) {
+        this.release(request);
+        this.releaseExport(request);
+    }
+
+    private void release(HttpServletRequest request) {
+        Object start = request.getAttribute(START);
+        if (start != null) {
+            request.removeAttribute(START);
+            concurrencyLimiter.release(System.nanoTime() - (long) start);
+        }
+    }
+
+    // Released once, by whichever of the async dispatch and the listener comes first
+    private void releaseExport(HttpServletRequest request) {
+        Object held = request.getAttribute(EXPORT);
+        if (held != null && ((AtomicBoolean) held).getAndSet(false)) {
+            exports.release();
+        }
+    }
+
+    // Endpoints are named after their controller and method in the configuration, like "TimeZoneController#batch"
+    private String endpoint(Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return "";
+        }
+        return endpoints.computeIfAbsent(
+                handlerMethod.getMethod(),
+                method -> handlerMethod.getBeanType().getSimpleName() + "#" + method.getName()
+        );
+    }
+
+    private boolean isExport(Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return false;
+        }
+        return exportMethods.computeIfAbsent(handlerMethod.getMethod(), method -> {
+            ResolvableType returnType = ResolvableType.forMethodReturnType(method);
+            if (ResponseEntity.class.equals(returnType.resolve())) {
+                returnType = returnType.getGeneric(0);
+            }
+            return StreamingResponseBody.class.isAssignableFrom(returnType.toClass());
+        });
+    }
+
+    // Tagged like http.server.requests
+    private void reject(String reason, HttpServletRequest request) {
+        Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        meterRegistry.counter(
+                REJECTED, "reason", reason, "method", request.getMethod(), "uri", uri == null ? "UNKNOWN" : uri.toString()
+        ).increment();
+    }
+
+    private String client(HttpServletRequest request) {
+        String clientHeader = properties.getAdmission().getClientHeader();
+        String client = clientHeader == null ? null : request.getHeader(clientHeader);
+        return client != null ? client : request.getRemoteAddr();
+    }
+}
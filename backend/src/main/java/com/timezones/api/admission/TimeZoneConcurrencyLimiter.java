@@ -0,0 +1,81 @@
+package com.timezones.api.admission;
+
+import com.timezones.configuration.TimeZonesProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounds the requests processed at once, with a limit that adapts to their latency (additive increase,
+ * multiplicative decrease): a request slower than the threshold shrinks the limit by the backoff ratio, at most once per
+ * round of the requests in flight, and every faster one grows it by one over a full window of requests, while the
+ * limit is actually used.
+ * Requests over the limit are rejected right away rather than queued in front of the connection pool.
+ */
+@Component
+public class TimeZoneConcurrencyLimiter {
+
+    private final TimeZonesProperties.Concurrency concurrency;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicLong limit;  // Bits of a double, grown by fractions of a request
+
+    private final AtomicLong completed = new AtomicLong();
+
+    // Completion from which a slow request shrinks the limit again: the requests in flight at the last backoff were
+    // admitted under the previous limit, their latency says nothing about the new one
+    private final AtomicLong nextBackoff = new AtomicLong();
+
+    public TimeZoneConcurrencyLimiter(TimeZonesProperties properties, MeterRegistry meterRegistry) {
+        this.concurrency = properties.getAdmission().getConcurrency();
+        this.limit = new AtomicLong(Double.doubleToLongBits(concurrency.getInitialLimit()));
+        Gauge.builder("timezones.admission.concurrency.limit", this, TimeZoneConcurrencyLimiter::limit)
+                .register(meterRegistry);
+        Gauge.builder("timezones.admission.in.flight", inFlight, AtomicInteger::get).register(meterRegistry);
+    }
+
+    public boolean tryAcquire() {
+        int currentLimit = (int) this.limit();
+        while (true) {
+            int current = inFlight.get();
+            if (current >= currentLimit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long latencyNanos) {
+        int released = inFlight.getAndDecrement();
+        long completion = completed.incrementAndGet();
+        if (latencyNanos > concurrency.getLatencyThreshold().toNanos()) {
+            long allowed = nextBackoff.get();
+            if (completion >= allowed && nextBackoff.compareAndSet(allowed, completion + released)) {
+                limit.updateAndGet(bits -> Double.doubleToLongBits(Math.max(
+                        concurrency.getMinLimit(), Double.longBitsToDouble(bits) * concurrency.getBackoffRatio()
+                )));
+            }
+            return;
+        }
+        limit.updateAndGet(bits -> {
+            double current = Double.longBitsToDouble(bits);
+            return released * 2 >= current
+                    ? Double.doubleToLongBits(Math.min(concurrency.getMaxLimit(), current + 1 / current))
+                    : bits;
+        });
+    }
+
+    public double limit() {
+        return Double.longBitsToDouble(limit.get());
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+}
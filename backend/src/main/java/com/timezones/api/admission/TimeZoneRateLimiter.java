@@ -0,0 +1,61 @@
+package com.timezones.api.admission;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.timezones.configuration.TimeZonesProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket of each client on each endpoint. A bucket is a single time, when it will be full again, moved forward
+ * by one refill interval per request with a compare-and-set, so that concurrent requests never take a lock
+ * (the generic cell rate algorithm). Idle buckets are full and simply evicted.
+ */
+@Component
+public class TimeZoneRateLimiter {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final TimeZonesProperties properties;
+
+    private final Cache<String, AtomicLong> fullAt = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+
+    public TimeZoneRateLimiter(TimeZonesProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Takes a token from the bucket of the client on the endpoint, and returns 0, or else the nanoseconds until the
+     * next token.
+     */
+    public long tryAcquire(String endpoint, String client) {
+        TimeZonesProperties.Admission admission = properties.getAdmission();
+        TimeZonesProperties.RateLimit rateLimit =
+                admission.getEndpoints().getOrDefault(endpoint, admission.getRateLimit());
+        if (rateLimit.getRefillPerSecond() <= 0) {
+            return 0;
+        }
+
+        long interval = NANOS_PER_SECOND / rateLimit.getRefillPerSecond();
+        long burst = interval * Math.max(rateLimit.getCapacity() - 1, 0);
+        long now = System.nanoTime();
+        AtomicLong bucket = fullAt.get(endpoint + ' ' + client, key -> new AtomicLong(now));
+        while (true) {
+            long current = bucket.get();
+            // Nano times are only compared by difference, they may overflow
+            long start = current - now > 0 ? current : now;
+            long wait = start - now - burst;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(current, start + interval)) {
+                return 0;
+            }
+        }
+    }
+}
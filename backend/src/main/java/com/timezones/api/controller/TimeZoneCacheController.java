@@ -0,0 +1,35 @@
+package com.timezones.api.controller;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.timezones.api.dto.TimeZoneCacheStatsDto;
+import com.timezones.domain.service.TimeZoneCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/timezones/cache")
+public class TimeZoneCacheController {
+
+    private final TimeZoneCache timeZoneCache;
+
+    public TimeZoneCacheController(TimeZoneCache timeZoneCache) {
+        this.timeZoneCache = timeZoneCache;
+    }
+
+    @Operation(summary = "Get the statistics of the time zone cache", tags = { "Cache" })
+    @ApiResponse(responseCode = "200", description = "Successful operation")
+    @GetMapping("/stats")
+    public TimeZoneCacheStatsDto getStats() {
+        CacheStats stats = timeZoneCache.stats();
+        return new TimeZoneCacheStatsDto(
+                timeZoneCache.size(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount()
+        );
+    }
+}
@@ -0,0 +1,226 @@
+package com.timezones.api.controller;
+
+import com.timezones.api.dto.TimeZoneChangeDto;
+import com.timezones.api.dto.TimeZoneDto;
+import com.timezones.api.mapper.TimeZoneMapper;
+import com.timezones.configuration.TimeZonesProperties;
+import com.timezones.domain.exceptions.TimeZoneNotFoundException;
+import com.timezones.domain.model.TimeZoneChange;
+import com.timezones.domain.service.TimeZoneService;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes committed time zone changes to the connected Server-Sent Events clients.
+ * Each client has its own bounded queue, drained by its own thread, so that the transaction never waits for a client,
+ * a slow client never delays the others, and every client receives the changes in commit order. The queue holds the
+ * changes of one committed transaction per slot, whatever the size of a batch. A client whose queue is full is
+ * disconnected, it resumes from its watermark with the change feed.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class TimeZoneChangeBroadcaster implements DisposableBean {
+
+    private final TimeZoneService timeZoneService;
+
+    private final TimeZonesProperties properties;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    // Platform threads: a send holds the monitor of its emitter while it writes, which would pin a virtual thread
+    private final ExecutorService executor = Executors.newCachedThreadPool(
+            Thread.ofPlatform().name("time-zone-changes-", 0).daemon().factory()
+    );
+
+    public TimeZoneChangeBroadcaster(TimeZoneService timeZoneService, TimeZonesProperties properties) {
+        this.timeZoneService = timeZoneService;
+        this.properties = properties;
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(properties.getChanges().getStreamTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter, properties.getChanges().getStreamQueueCapacity());
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    /**
+     * Collects the changes of the current transaction, broadcast together once it commits, or broadcasts the change
+     * right away outside of a transaction.
+     */
+    @EventListener
+    public void onChange(TimeZoneChange change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.broadcast(List.of(change));
+            return;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof CommittedChanges committedChanges) {
+                committedChanges.changes.add(change);
+                return;
+            }
+        }
+        CommittedChanges committedChanges = new CommittedChanges();
+        committedChanges.changes.add(change);
+        TransactionSynchronizationManager.registerSynchronization(committedChanges);
+    }
+
+    @Scheduled(fixedDelayString = "${timezones.changes.heartbeat-interval}")
+    public void heartbeat() {
+        if (!subscribers.isEmpty()) {
+            this.enqueue(List.of(SseEmitter.event().comment("heartbeat").build()));
+        }
+    }
+
+    public int subscribers() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    private void broadcast(List<TimeZoneChange> changes) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        List<Set<ResponseBodyEmitter.DataWithMediaType>> events = new ArrayList<>(changes.size());
+        for (TimeZoneChange change : changes) {
+            TimeZoneChangeDto changeDto = new TimeZoneChangeDto(change.getType().name(), change.getId(), this.toDto(change));
+            events.add(SseEmitter.event()
+                    .name(change.getType().name())
+                    .data(changeDto, MediaType.APPLICATION_JSON)
+                    .build());
+        }
+        this.enqueue(events);
+    }
+
+    // Built once and only read by the sends, the same events are queued for every client
+    private void enqueue(List<Set<ResponseBodyEmitter.DataWithMediaType>> events) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.enqueue(events);
+        }
+    }
+
+    // Updates are made by a single statement, their new state is read back once for all clients
+    private TimeZoneDto toDto(TimeZoneChange change) {
+        if (change.getTimeZone() != null) {
+            return TimeZoneMapper.toDto(change.getTimeZone());
+        }
+        if (change.getType() != TimeZoneChange.Type.UPDATED) {
+            return null;
+        }
+        try {
+            return TimeZoneMapper.toDto(timeZoneService.getById(change.getId()));
+        } catch (TimeZoneNotFoundException e) {
+            return null;
+        }
+    }
+
+    // After the eviction of the cache, which runs first of the listeners of the commit, since updates are read back
+    private class CommittedChanges implements TransactionSynchronization {
+
+        private final List<TimeZoneChange> changes = new ArrayList<>();
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+
+        @Override
+        public void afterCommit() {
+            broadcast(changes);
+        }
+    }
+
+    private class Subscriber {
+
+        private final SseEmitter emitter;
+
+        private final BlockingQueue<List<Set<ResponseBodyEmitter.DataWithMediaType>>> queue;
+
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, int queueCapacity) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        private void enqueue(List<Set<ResponseBodyEmitter.DataWithMediaType>> events) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(events)) {
+                this.close();
+                try {
+                    // Completed on the executor: a send blocked on this client holds the monitor of the emitter
+                    executor.execute(emitter::complete);
+                } catch (RejectedExecutionException e) {
+                    // Shutting down, destroy completes the emitters
+                }
+                return;
+            }
+            this.scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            do {
+                List<Set<ResponseBodyEmitter.DataWithMediaType>> events;
+                while (!closed && (events = queue.poll()) != null) {
+                    try {
+                        for (Set<ResponseBodyEmitter.DataWithMediaType> event : events) {
+                            emitter.send(event);
+                        }
+                    } catch (IOException | IllegalStateException e) {
+                        this.close();
+                    }
+                }
+                draining.set(false);
+            } while (!closed && !queue.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        private void close() {
+            closed = true;
+            subscribers.remove(this);
+            queue.clear();
+        }
+    }
+}
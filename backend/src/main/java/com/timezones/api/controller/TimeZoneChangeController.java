@@ -0,0 +1,96 @@
+package com.timezones.api.controller;
+
+import com.timezones.api.dto.TimeZoneChangeDto;
+import com.timezones.api.dto.TimeZoneChangeSetDto;
+import com.timezones.api.mapper.TimeZoneDtoValidator;
+import com.timezones.api.mapper.TimeZoneMapper;
+import com.timezones.domain.model.TimeZoneChangeSet;
+import com.timezones.domain.service.TimeZoneService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/timezones/changes")
+public class TimeZoneChangeController {
+
+    private final TimeZoneService timeZoneService;
+
+    private final TimeZoneChangeBroadcaster timeZoneChangeBroadcaster;
+
+    public TimeZoneChangeController(
+            TimeZoneService timeZoneService,
+            TimeZoneChangeBroadcaster timeZoneChangeBroadcaster
+    ) {
+        this.timeZoneService = timeZoneService;
+        this.timeZoneChangeBroadcaster = timeZoneChangeBroadcaster;
+    }
+
+    @Operation(
+            summary = "Get the time zones changed since a watermark",
+            description = "Returns the created or updated time zones and the ids of the deleted ones since the watermark "
+                    + "returned by the previous call, or every time zone without watermark",
+            tags = { "Changes" }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successful operation",
+                    content = @Content(schema = @Schema(implementation = TimeZoneChangeSetDto.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content),
+            @ApiResponse(
+                    responseCode = "410",
+                    description = "Watermark older than the deletion history, synchronize again without it",
+                    content = @Content
+            )
+    })
+    @GetMapping
+    public ResponseEntity<?> getChanges(
+            @Parameter(description = "Watermark returned by the previous call")
+            @RequestParam(required = false) String since
+    ) {
+        TimeZoneChangeSet changeSet = timeZoneService.getChangesSince(
+                since == null ? null : TimeZoneDtoValidator.parseWatermark(since)
+        );
+        return new ResponseEntity<>(
+                new TimeZoneChangeSetDto(
+                        changeSet.getTimeZones().stream().map(TimeZoneMapper::toDto).toList(),
+                        changeSet.getDeletedIds(),
+                        changeSet.getWatermark().toString()
+                ),
+                HttpStatus.OK
+        );
+    }
+
+    @Operation(
+            summary = "Stream the time zone changes",
+            description = "Server-Sent Events named CREATED, UPDATED or DELETED, sent once each change is committed",
+            tags = { "Changes" }
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Successful operation",
+            content = @Content(
+                    mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                    schema = @Schema(implementation = TimeZoneChangeDto.class)
+            )
+    )
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges() {
+        return timeZoneChangeBroadcaster.subscribe();
+    }
+}
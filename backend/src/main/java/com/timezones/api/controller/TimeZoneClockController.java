@@ -0,0 +1,159 @@
+package com.timezones.api.controller;
+
+import com.timezones.api.dto.TimeZoneConversionDto;
+import com.timezones.api.dto.TimeZoneConversionResultDto;
+import com.timezones.api.dto.TimeZoneLocalTimeDto;
+import com.timezones.api.mapper.TimeZoneDtoValidator;
+import com.timezones.api.mapper.TimeZoneMapper;
+import com.timezones.configuration.TimeZonesProperties;
+import com.timezones.domain.exceptions.TimeZoneConversionException;
+import com.timezones.domain.exceptions.TimeZoneConversionSizeException;
+import com.timezones.domain.exceptions.TimeZoneIdsException;
+import com.timezones.domain.exceptions.TimeZoneNotFoundException;
+import com.timezones.domain.exceptions.TimeZoneValidationException;
+import com.timezones.domain.service.TimeZoneOffsetTable;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/timezones")
+public class TimeZoneClockController {
+
+    private final TimeZoneOffsetTable timeZoneOffsetTable;
+
+    private final TimeZonesProperties properties;
+
+    public TimeZoneClockController(TimeZoneOffsetTable timeZoneOffsetTable, TimeZonesProperties properties) {
+        this.timeZoneOffsetTable = timeZoneOffsetTable;
+        this.properties = properties;
+    }
+
+    @Operation(
+            summary = "Get the current local time of time zones",
+            description = "Returns the local time now, or at the given instant, of the time zones with the given ids, "
+                    + "or of all of them. Time zones labelled with a tz-database id follow its daylight saving time",
+            tags = { "Clock" }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successful operation",
+                    content = @Content(schema = @Schema(implementation = TimeZoneLocalTimeDto[].class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Time zone not found", content = @Content)
+    })
+    @GetMapping("/now")
+    public ResponseEntity<?> getLocalTimes(
+            @Parameter(description = "Ids of the time zones, all of them when absent")
+            @RequestParam(required = false) List<Long> ids,
+            @Parameter(description = "Instant, formatted like 2024-07-01T12:00:00Z, now when absent")
+            @RequestParam(required = false) String at
+    ) throws TimeZoneNotFoundException {
+        // An empty value of the list, like in ids=1,,2, is bound to a null id
+        if (ids != null && ids.contains(null)) {
+            throw new TimeZoneIdsException();
+        }
+        return new ResponseEntity<>(
+                TimeZoneMapper.toDto(timeZoneOffsetTable.localTimesAt(instant(at), ids)),
+                HttpStatus.OK
+        );
+    }
+
+    @Operation(
+            summary = "Convert instants or local date-times between time zones",
+            description = "Each conversion either gives an instant, or a local date-time with the id of its time zone, "
+                    + "and the id of the time zone to convert to. Results come in the same order",
+            tags = { "Clock" }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successful operation",
+                    content = @Content(schema = @Schema(implementation = TimeZoneConversionResultDto[].class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Time zone not found", content = @Content)
+    })
+    @PostMapping("/convert")
+    public ResponseEntity<?> convert(@RequestBody List<TimeZoneConversionDto> conversionDtos)
+            throws TimeZoneNotFoundException {
+        // Checked before anything is allocated or parsed for the conversions
+        if (conversionDtos.size() > properties.getConversion().getMaxSize()) {
+            throw new TimeZoneConversionSizeException(properties.getConversion().getMaxSize());
+        }
+
+        long[] seconds = new long[conversionDtos.size()];
+        long[] sourceIds = new long[conversionDtos.size()];
+        long[] targetIds = new long[conversionDtos.size()];
+        for (int i = 0; i < seconds.length; i++) {
+            TimeZoneConversionDto conversionDto = conversionDtos.get(i);
+            if (conversionDto == null) {
+                throw new TimeZoneConversionException(i);
+            }
+            boolean fromInstant = conversionDto.getInstant() != null;
+            if (conversionDto.getTo() == null || fromInstant == (conversionDto.getLocalDateTime() != null)
+                    || (!fromInstant && conversionDto.getFrom() == null)) {
+                throw new TimeZoneConversionException(i);
+            }
+            try {
+                seconds[i] = fromInstant
+                        ? Instant.parse(conversionDto.getInstant()).getEpochSecond()
+                        : TimeZoneDtoValidator.parseDateTime(conversionDto.getLocalDateTime())
+                                .toEpochSecond(ZoneOffset.UTC);
+            } catch (DateTimeParseException | TimeZoneValidationException e) {
+                throw new TimeZoneConversionException(i);
+            }
+            if (!fromInstant && conversionDto.getFrom() == TimeZoneOffsetTable.UTC) {
+                throw new TimeZoneNotFoundException(conversionDto.getFrom());
+            }
+            sourceIds[i] = fromInstant ? TimeZoneOffsetTable.UTC : conversionDto.getFrom();
+            targetIds[i] = conversionDto.getTo();
+        }
+
+        return new ResponseEntity<>(
+                TimeZoneMapper.toDto(timeZoneOffsetTable.convert(seconds, sourceIds, targetIds)),
+                HttpStatus.OK
+        );
+    }
+
+    @Operation(summary = "Get the current local time of a time zone by it's id", tags = { "Clock" })
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successful operation",
+                    content = @Content(schema = @Schema(implementation = TimeZoneLocalTimeDto.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Time zone not found", content = @Content)
+    })
+    @GetMapping("/{id}/now")
+    public ResponseEntity<?> getLocalTime(
+            @PathVariable Long id,
+            @Parameter(description = "Instant, formatted like 2024-07-01T12:00:00Z, now when absent")
+            @RequestParam(required = false) String at
+    ) throws TimeZoneNotFoundException {
+        return new ResponseEntity<>(
+                TimeZoneMapper.toDto(timeZoneOffsetTable.localTimesAt(instant(at), List.of(id))).get(0),
+                HttpStatus.OK
+        );
+    }
+
+    private static Instant instant(String at) {
+        return at == null ? Instant.now() : Instant.parse(at);
+    }
+}
@@ -1,67 +1,296 @@
 package com.timezones.api.controller;
 
-import com.timezones.api.dto.PartialTimeZoneDto;
-import com.timezones.api.dto.TimeZoneDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.timezones.api.dto.*;
+import com.timezones.api.mapper.TimeZoneDtoValidator;
 import com.timezones.api.mapper.TimeZoneMapper;
+import com.timezones.api.mapper.TimeZoneProtobufCodec;
+import com.timezones.configuration.TimeZonesProperties;
+import com.timezones.domain.exceptions.TimeZoneBatchItemException;
+import com.timezones.domain.exceptions.TimeZoneBatchSizeException;
+import com.timezones.domain.exceptions.TimeZoneNotFoundException;
+import com.timezones.domain.exceptions.TimeZoneOverloadException;
+import com.timezones.domain.exceptions.TimeZoneValidationException;
+import com.timezones.domain.exceptions.TimeZoneVersionException;
 import com.timezones.domain.model.TimeZone;
+import com.timezones.domain.model.TimeZoneBatchResult;
+import com.timezones.domain.model.TimeZoneIngestion;
+import com.timezones.domain.model.TimeZonePage;
+import com.timezones.domain.model.TimeZoneSerializedList;
+import com.timezones.domain.model.TimeZoneSnapshot;
+import com.timezones.domain.service.TimeZoneIngestionQueue;
+import com.timezones.domain.service.TimeZoneListCache;
 import com.timezones.domain.service.TimeZoneService;
 import io.swagger.v3.oas.annotations.Operation;
-import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/timezones")
 public class TimeZoneController {
 
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+
     private final TimeZoneService timeZoneService;
 
-    public TimeZoneController(TimeZoneService timeZoneService) {
+    private final ObjectMapper objectMapper;
+
+    private final TimeZoneListCache timeZoneListCache;
+
+    private final TimeZoneIngestionQueue timeZoneIngestionQueue;
+
+    private final TimeZonesProperties properties;
+
+    public TimeZoneController(
+            TimeZoneService timeZoneService,
+            ObjectMapper objectMapper,
+            TimeZoneListCache timeZoneListCache,
+            TimeZoneIngestionQueue timeZoneIngestionQueue,
+            TimeZonesProperties properties
+    ) {
         this.timeZoneService = timeZoneService;
+        this.objectMapper = objectMapper;
+        this.timeZoneListCache = timeZoneListCache;
+        this.timeZoneIngestionQueue = timeZoneIngestionQueue;
+        this.properties = properties;
+    }
+
+    @Operation(
+            summary = "Get all time zones",
+            description = "Returns the whole list, or a page ordered by id when a cursor or a size is given",
+            tags = { "Get all" }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successful operation",
+                    content = @Content(schema = @Schema(oneOf = { TimeZoneDto[].class, TimeZonePageDto.class }))
+            ),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content)
+    })
+    @GetMapping
+    public ResponseEntity<?> getAllTimeZones(
+            @Parameter(description = "Cursor returned as next by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, capped by the configured maximum")
+            @RequestParam(required = false) Integer size,
+            @Parameter(description = "Also count all time zones, only in paginated mode")
+            @RequestParam(defaultValue = "false") boolean withTotal,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        if (cursor == null && size == null) {
+            // Already serialized, and compressed once for every client rather than on each response
+            TimeZoneSerializedList serializedList = timeZoneListCache.get();
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            return acceptsGzip(acceptEncoding)
+                    ? response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(serializedList.getGzippedJson())
+                    : response.body(serializedList.getJson());
+        }
+
+        TimeZonePage timeZonePage = timeZoneService.getPage(cursor, size, withTotal);
+        return new ResponseEntity<>(TimeZoneMapper.toDto(timeZonePage), HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Get all time zones in Protocol Buffers",
+            description = "Same as the JSON list and pages, encoded as the TimeZonePage message of timezones.proto "
+                    + "with date-times and offsets in seconds",
+            tags = { "Get all" }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successful operation",
+                    content = @Content(mediaType = TimeZoneProtobufCodec.MEDIA_TYPE_VALUE)
+            ),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content)
+    })
+    @GetMapping(produces = TimeZoneProtobufCodec.MEDIA_TYPE_VALUE)
+    public ResponseEntity<byte[]> getAllTimeZonesAsProtobuf(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        byte[] body = cursor == null && size == null
+                ? TimeZoneProtobufCodec.encode(timeZoneService.getAll())
+                : TimeZoneProtobufCodec.encode(timeZoneService.getPage(cursor, size, withTotal));
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(TimeZoneProtobufCodec.MEDIA_TYPE_VALUE))
+                .body(body);
+    }
+
+    @Operation(
+            summary = "Get time zones by label",
+            description = "Returns the time zones with exactly this label, or whose label starts with it",
+            tags = { "Search" }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successful operation",
+                    content = @Content(schema = @Schema(implementation = TimeZoneDto[].class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content)
+    })
+    @GetMapping("/by-label")
+    public ResponseEntity<?> getByLabel(
+            @Parameter(description = "Label to look for, for example: Europe/Paris")
+            @RequestParam(required = false) String label,
+            @Parameter(description = "Match every label starting with the given one")
+            @RequestParam(defaultValue = "false") boolean prefix
+    ) {
+        return new ResponseEntity<>(
+                timeZoneService.getByLabel(label, prefix).stream().map(TimeZoneMapper::toDto).toList(),
+                HttpStatus.OK
+        );
+    }
+
+    @Operation(summary = "Get time zones by offset from UTC", tags = { "Search" })
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successful operation",
+                    content = @Content(schema = @Schema(implementation = TimeZoneDto[].class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content)
+    })
+    @GetMapping("/by-offset/{offset}")
+    public ResponseEntity<?> getByOffset(
+            @Parameter(description = "Offset from UTC, for example: +01:30")
+            @PathVariable String offset
+    ) {
+        return new ResponseEntity<>(
+                timeZoneService.getByOffset(TimeZoneDtoValidator.parseOffset(offset)).stream()
+                        .map(TimeZoneMapper::toDto)
+                        .toList(),
+                HttpStatus.OK
+        );
     }
 
-    @Operation(summary = "Get all time zones", tags = { "Get all" })
+    @Operation(
+            summary = "Get time zones by date-time range",
+            description = "Returns the time zones whose date-time is between both bounds included, ordered by date-time",
+            tags = { "Search" }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successful operation",
+                    content = @Content(schema = @Schema(implementation = TimeZoneDto[].class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content)
+    })
+    @GetMapping("/by-date-time")
+    public ResponseEntity<?> getByDateTimeRange(
+            @Parameter(description = "Start of the range, for example: 2024-01-01T00:00:00")
+            @RequestParam(required = false) String from,
+            @Parameter(description = "End of the range, for example: 2024-12-31T23:59:59")
+            @RequestParam(required = false) String to
+    ) {
+        return new ResponseEntity<>(
+                timeZoneService.getByDateTimeRange(
+                        from == null ? null : TimeZoneDtoValidator.parseDateTime(from),
+                        to == null ? null : TimeZoneDtoValidator.parseDateTime(to)
+                ).stream().map(TimeZoneMapper::toDto).toList(),
+                HttpStatus.OK
+        );
+    }
+
+    @Operation(
+            summary = "Export all time zones",
+            description = "Streams every time zone as newline-delimited JSON, one time zone per line",
+            tags = { "Get all" }
+    )
     @ApiResponse(
             responseCode = "200",
             description = "Successful operation",
-            content = @Content(array = @ArraySchema(schema = @Schema(implementation = TimeZoneDto.class)))
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                    schema = @Schema(implementation = TimeZoneDto.class)
+            )
     )
-    @GetMapping
-    public List<TimeZoneDto> getAllTimeZones() {
-        return timeZoneService.getAll().stream()
-                .map(TimeZoneMapper::toDto)
-                .toList();
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportAllTimeZones() {
+        // Flushed by batches of rows below, not after each value as an ObjectWriter does by default
+        ObjectWriter writer = objectMapper.writerFor(TimeZoneDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                // Values are separated by the new lines only, not by the space Jackson writes between root values
+                generator.setRootValueSeparator(null);
+                int[] written = { 0 };
+                timeZoneService.exportAll(timeZone -> {
+                    try {
+                        writer.writeValue(generator, TimeZoneMapper.toDto(timeZone));
+                        generator.writeRaw('\n');
+                        // Blocking on the socket when the client reads slowly throttles the database cursor
+                        if (++written[0] % EXPORT_FLUSH_INTERVAL == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
-    @Operation(summary = "Get a time zone by it's id", tags = { "Get one" })
+    @Operation(
+            summary = "Get a time zone by it's id",
+            description = "The response carries the version of the time zone as ETag, "
+                    + "send it back as If-None-Match to only download the time zone when it changed",
+            tags = { "Get one" }
+    )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
                     description = "Successful operation",
                     content = @Content(schema = @Schema(implementation = TimeZoneDto.class))
             ),
+            @ApiResponse(responseCode = "304", description = "Time zone not modified", content = @Content),
             @ApiResponse(responseCode = "404", description = "Time zone not found", content = @Content)
     })
     @GetMapping("/{id}")
-    public ResponseEntity<?> getById(@PathVariable Long id) {
-        try {
-            TimeZone timeZone = this.timeZoneService.getById(id);
-            return new ResponseEntity<>(TimeZoneMapper.toDto(timeZone), HttpStatus.OK);
-        } catch (Exception e) {
-            return new ResponseEntity<>(e.getLocalizedMessage(), HttpStatus.NOT_FOUND);
+    public ResponseEntity<?> getById(@PathVariable Long id, WebRequest request) throws TimeZoneNotFoundException {
+        TimeZoneSnapshot timeZone = this.timeZoneService.getById(id);
+        // A matching If-None-Match is answered with a 304 before the time zone is mapped
+        String eTag = TimeZoneMapper.toETag(timeZone.getVersion());
+        if (request.checkNotModified(eTag)) {
+            return null;
         }
-
+        return ResponseEntity.ok().eTag(eTag).body(TimeZoneMapper.toDto(timeZone));
     }
 
     @Operation(
             summary = "Create a new time zone",
+            description = "With the asynchronous ingestion enabled, the time zone is validated and queued, "
+                    + "follow its creation at the Location of the 202 response",
             tags = { "Create one" },
             requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "The time zone to create",
@@ -71,17 +300,123 @@ public class TimeZoneController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Time zone created successfully"),
-            @ApiResponse(responseCode = "400", description = "Bad Request"),
-            @ApiResponse(responseCode = "404", description = "Time zone not found")
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Time zone queued for creation",
+                    content = @Content(schema = @Schema(implementation = TimeZoneIngestionDto.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content),
+            @ApiResponse(responseCode = "503", description = "Ingestion queue full, retry later", content = @Content)
     })
     @PostMapping
-    public ResponseEntity<String> create(@RequestBody PartialTimeZoneDto partialTimeZoneDto) {
-        try {
-            this.timeZoneService.create(TimeZoneMapper.toEntity(partialTimeZoneDto));
-            return new ResponseEntity<>("Time zone created successfully", HttpStatus.CREATED);
-        } catch (Exception e) {
-            return new ResponseEntity<>(e.getLocalizedMessage(), HttpStatus.BAD_REQUEST);
+    public ResponseEntity<?> create(@RequestBody PartialTimeZoneDto partialTimeZoneDto)
+            throws TimeZoneOverloadException {
+        TimeZone timeZone = TimeZoneMapper.toEntity(partialTimeZoneDto);
+        if (timeZoneIngestionQueue.isEnabled()) {
+            TimeZoneIngestion ingestion = timeZoneIngestionQueue.submit(timeZone);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/timezones/ingestions/" + ingestion.getTrackingId()))
+                    .body(TimeZoneMapper.toDto(ingestion));
         }
+
+        this.timeZoneService.create(timeZone);
+        return new ResponseEntity<>("Time zone created successfully", HttpStatus.CREATED);
+    }
+
+    @Operation(
+            summary = "Create, update and delete time zones in a single transaction",
+            description = "Every item is validated on its own, the response reports the outcome of each item "
+                    + "with the status it would have had as a single request",
+            tags = { "Batch" },
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "The operations to apply",
+                    required = true,
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = TimeZoneBatchDto.class))
+            )
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch applied, see the outcome of each item",
+                    content = @Content(schema = @Schema(implementation = TimeZoneBatchResultDto.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content)
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<?> batch(@RequestBody TimeZoneBatchDto timeZoneBatchDto) {
+        // Counts the rejected items too, and before mapping any of them
+        int operations = timeZoneBatchDto.getCreate().size() + timeZoneBatchDto.getUpdate().size()
+                + timeZoneBatchDto.getDelete().size();
+        if (operations > properties.getBatch().getMaxSize()) {
+            throw new TimeZoneBatchSizeException(properties.getBatch().getMaxSize());
+        }
+        // A missing item or id is a malformed request, not an item to report as rejected or not found
+        for (int i = 0; i < timeZoneBatchDto.getCreate().size(); i++) {
+            if (timeZoneBatchDto.getCreate().get(i) == null) {
+                throw new TimeZoneBatchItemException("create", i, "a time zone");
+            }
+        }
+        for (int i = 0; i < timeZoneBatchDto.getUpdate().size(); i++) {
+            if (timeZoneBatchDto.getUpdate().get(i) == null || timeZoneBatchDto.getUpdate().get(i).getId() == null) {
+                throw new TimeZoneBatchItemException("update", i, "a time zone with its id");
+            }
+        }
+        for (int i = 0; i < timeZoneBatchDto.getDelete().size(); i++) {
+            if (timeZoneBatchDto.getDelete().get(i) == null) {
+                throw new TimeZoneBatchItemException("delete", i, "an id");
+            }
+        }
+
+        TimeZoneBatchResultDto resultDto = new TimeZoneBatchResultDto();
+
+        List<TimeZone> creations = new ArrayList<>();
+        List<Integer> creationIndexes = new ArrayList<>();
+        for (int i = 0; i < timeZoneBatchDto.getCreate().size(); i++) {
+            try {
+                creations.add(TimeZoneMapper.toEntity(timeZoneBatchDto.getCreate().get(i)));
+                creationIndexes.add(i);
+            } catch (TimeZoneValidationException e) {
+                resultDto.getCreated().add(rejected(i, null, e));
+            }
+        }
+
+        List<TimeZone> updates = new ArrayList<>();
+        List<Integer> updateIndexes = new ArrayList<>();
+        for (int i = 0; i < timeZoneBatchDto.getUpdate().size(); i++) {
+            TimeZoneBatchUpdateDto updateDto = timeZoneBatchDto.getUpdate().get(i);
+            try {
+                TimeZone timeZone = TimeZoneMapper.toEntity(updateDto);
+                timeZone.setId(updateDto.getId());
+                updates.add(timeZone);
+                updateIndexes.add(i);
+            } catch (TimeZoneValidationException e) {
+                resultDto.getUpdated().add(rejected(i, updateDto.getId(), e));
+            }
+        }
+
+        TimeZoneBatchResult result = timeZoneService.batch(creations, updates, timeZoneBatchDto.getDelete());
+
+        for (int i = 0; i < creations.size(); i++) {
+            resultDto.getCreated().add(new TimeZoneBatchItemResultDto(
+                    creationIndexes.get(i), creations.get(i).getId(), HttpStatus.CREATED.value(), null
+            ));
+        }
+        for (int i = 0; i < updates.size(); i++) {
+            Long id = updates.get(i).getId();
+            resultDto.getUpdated().add(result.getUpdatesNotFound().contains(id)
+                    ? notFound(updateIndexes.get(i), id)
+                    : new TimeZoneBatchItemResultDto(updateIndexes.get(i), id, HttpStatus.NO_CONTENT.value(), null));
+        }
+        for (int i = 0; i < timeZoneBatchDto.getDelete().size(); i++) {
+            Long id = timeZoneBatchDto.getDelete().get(i);
+            resultDto.getDeleted().add(result.getDeletionsNotFound().contains(id)
+                    ? notFound(i, id)
+                    : new TimeZoneBatchItemResultDto(i, id, HttpStatus.NO_CONTENT.value(), null));
+        }
+        resultDto.getCreated().sort(Comparator.comparingInt(TimeZoneBatchItemResultDto::getIndex));
+        resultDto.getUpdated().sort(Comparator.comparingInt(TimeZoneBatchItemResultDto::getIndex));
+
+        return new ResponseEntity<>(resultDto, HttpStatus.OK);
     }
 
     @Operation(
@@ -95,34 +430,90 @@ public class TimeZoneController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Time zone updated successfully"),
-            @ApiResponse(responseCode = "400", description = "Bad Request"),
-            @ApiResponse(responseCode = "404", description = "Time zone not found", content = @Content)
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Time zone not found", content = @Content),
+            @ApiResponse(responseCode = "412", description = "Time zone modified since the If-Match ETag", content = @Content)
     })
     @PatchMapping("/{id}")
-    public ResponseEntity<String> update(@PathVariable Long id, @RequestBody PartialTimeZoneDto partialTimeZoneDto) {
-        try {
-            timeZoneService.update(id, TimeZoneMapper.toEntity(partialTimeZoneDto));
-            return new ResponseEntity<>("Time zone updated successfully", HttpStatus.NO_CONTENT);
-        } catch (Exception e) {
-            if (e instanceof IllegalArgumentException) {
-                return new ResponseEntity<>(e.getLocalizedMessage(), HttpStatus.BAD_REQUEST);
-            }
-            return new ResponseEntity<>(e.getLocalizedMessage(), HttpStatus.NOT_FOUND);
-        }
+    public ResponseEntity<String> update(
+            @PathVariable Long id,
+            @RequestBody PartialTimeZoneDto partialTimeZoneDto,
+            @Parameter(description = "ETag of the time zone as last read, the update only applies to this version")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) throws TimeZoneNotFoundException, TimeZoneVersionException {
+        timeZoneService.update(id, TimeZoneMapper.toEntity(partialTimeZoneDto), expectedVersions(ifMatch));
+        return new ResponseEntity<>("Time zone updated successfully", HttpStatus.NO_CONTENT);
     }
 
     @Operation(summary = "Delete a time zone by it's id", tags = { "Delete one" })
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Time zone deleted successfully"),
-            @ApiResponse(responseCode = "404", description = "Time zone not found")
+            @ApiResponse(responseCode = "404", description = "Time zone not found", content = @Content),
+            @ApiResponse(responseCode = "412", description = "Time zone modified since the If-Match ETag", content = @Content)
     })
     @DeleteMapping("/{id}")
-    public ResponseEntity<String> delete(@PathVariable Long id) {
-        try {
-            timeZoneService.delete(id);
-            return new ResponseEntity<>("Time zone deleted successfully", HttpStatus.NO_CONTENT);
-        } catch (Exception e) {
-            return new ResponseEntity<>(e.getLocalizedMessage(), HttpStatus.NOT_FOUND);
+    public ResponseEntity<String> delete(
+            @PathVariable Long id,
+            @Parameter(description = "ETag of the time zone as last read, the deletion only applies to this version")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) throws TimeZoneNotFoundException, TimeZoneVersionException {
+        timeZoneService.delete(id, expectedVersions(ifMatch));
+        return new ResponseEntity<>("Time zone deleted successfully", HttpStatus.NO_CONTENT);
+    }
+
+    // gzip, or any coding with "*", unless refused with a zero quality
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
         }
+        Boolean gzip = null;
+        Boolean any = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parameters = coding.split(";");
+            String name = parameters[0].trim();
+            boolean accepted = parameters.length < 2 || !isZeroQuality(parameters[1].trim());
+            if (name.equalsIgnoreCase("gzip")) {
+                gzip = accepted;
+            } else if (name.equals("*")) {
+                any = accepted;
+            }
+        }
+        return gzip != null ? gzip : any != null && any;
+    }
+
+    // q=0, q=0., q=0.0, up to q=0.000, read by hand since this runs on every request for the list
+    private static boolean isZeroQuality(String parameter) {
+        int length = parameter.length();
+        if (length < 3 || length > 7 || (parameter.charAt(0) != 'q' && parameter.charAt(0) != 'Q')
+                || parameter.charAt(1) != '=' || parameter.charAt(2) != '0') {
+            return false;
+        }
+        if (length == 3) {
+            return true;
+        }
+        if (parameter.charAt(3) != '.') {
+            return false;
+        }
+        for (int i = 4; i < length; i++) {
+            if (parameter.charAt(i) != '0') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // "*" matches any version, like no If-Match at all
+    private static List<Long> expectedVersions(String ifMatch) {
+        return ifMatch == null ? null : TimeZoneDtoValidator.parseETags(ifMatch);
+    }
+
+    private static TimeZoneBatchItemResultDto rejected(int index, Long id, Exception e) {
+        return new TimeZoneBatchItemResultDto(index, id, HttpStatus.BAD_REQUEST.value(), e.getLocalizedMessage());
+    }
+
+    private static TimeZoneBatchItemResultDto notFound(int index, Long id) {
+        return new TimeZoneBatchItemResultDto(
+                index, id, HttpStatus.NOT_FOUND.value(), new TimeZoneNotFoundException(id).getLocalizedMessage()
+        );
     }
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.timezones.api.controller;
+
+import com.timezones.domain.exceptions.TimeZoneIngestionNotFoundException;
+import com.timezones.domain.exceptions.TimeZoneNotFoundException;
+import com.timezones.domain.exceptions.TimeZoneOverloadException;
+import com.timezones.domain.exceptions.TimeZoneRateLimitException;
+import com.timezones.domain.exceptions.TimeZoneValidationException;
+import com.timezones.domain.exceptions.TimeZoneVersionException;
+import com.timezones.domain.exceptions.TimeZoneWatermarkExpiredException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+
+import java.time.format.DateTimeParseException;
+
+/**
+ * Turns the exceptions of the time zone controllers into RFC 7807 problem details, with the message as detail.
+ * The exception is also given to the observation of the request, to tag its http.server.requests metrics, and counted
+ * by class in timezones.api.errors, which covers the validations done by the controllers before the service.
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class TimeZoneExceptionHandler {
+
+    private final MeterRegistry meterRegistry;
+
+    public TimeZoneExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @ExceptionHandler({ TimeZoneNotFoundException.class, TimeZoneIngestionNotFoundException.class })
+    public ProblemDetail handleNotFound(Exception e, HttpServletRequest request) {
+        return problem(HttpStatus.NOT_FOUND, e, request);
+    }
+
+    @ExceptionHandler(TimeZoneVersionException.class)
+    public ProblemDetail handleVersion(TimeZoneVersionException e, HttpServletRequest request) {
+        return problem(HttpStatus.PRECONDITION_FAILED, e, request);
+    }
+
+    @ExceptionHandler(TimeZoneWatermarkExpiredException.class)
+    public ProblemDetail handleWatermarkExpired(TimeZoneWatermarkExpiredException e, HttpServletRequest request) {
+        return problem(HttpStatus.GONE, e, request);
+    }
+
+    @ExceptionHandler(TimeZoneRateLimitException.class)
+    public ResponseEntity<ProblemDetail> handleRateLimit(TimeZoneRateLimitException e, HttpServletRequest request) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(problem(HttpStatus.TOO_MANY_REQUESTS, e, request));
+    }
+
+    // A slot is usually free again within the second
+    @ExceptionHandler(TimeZoneOverloadException.class)
+    public ResponseEntity<ProblemDetail> handleOverload(TimeZoneOverloadException e, HttpServletRequest request) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(problem(HttpStatus.SERVICE_UNAVAILABLE, e, request));
+    }
+
+    @ExceptionHandler({ TimeZoneValidationException.class, DateTimeParseException.class })
+    public ProblemDetail handleValidation(RuntimeException e, HttpServletRequest request) {
+        return problem(HttpStatus.BAD_REQUEST, e, request);
+    }
+
+    private ProblemDetail problem(HttpStatus status, Exception e, HttpServletRequest request) {
+        meterRegistry.counter(
+                "timezones.api.errors",
+                "exception", e.getClass().getSimpleName(),
+                "status", String.valueOf(status.value())
+        ).increment();
+        ServerHttpObservationFilter.findObservationContext(request).ifPresent(context -> context.setError(e));
+        return ProblemDetail.forStatusAndDetail(status, e.getLocalizedMessage());
+    }
+}
@@ -0,0 +1,48 @@
+package com.timezones.api.controller;
+
+import com.timezones.api.dto.TimeZoneIngestionDto;
+import com.timezones.api.mapper.TimeZoneMapper;
+import com.timezones.domain.exceptions.TimeZoneIngestionNotFoundException;
+import com.timezones.domain.service.TimeZoneIngestionQueue;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/timezones/ingestions")
+public class TimeZoneIngestionController {
+
+    private final TimeZoneIngestionQueue timeZoneIngestionQueue;
+
+    public TimeZoneIngestionController(TimeZoneIngestionQueue timeZoneIngestionQueue) {
+        this.timeZoneIngestionQueue = timeZoneIngestionQueue;
+    }
+
+    @Operation(
+            summary = "Get the status of a queued time zone creation",
+            description = "PENDING until the queue is written, then CREATED with the id of the time zone, or FAILED",
+            tags = { "Create one" }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successful operation",
+                    content = @Content(schema = @Schema(implementation = TimeZoneIngestionDto.class))
+            ),
+            @ApiResponse(responseCode = "404", description = "Unknown or expired tracking id", content = @Content)
+    })
+    @GetMapping("/{trackingId}")
+    public ResponseEntity<TimeZoneIngestionDto> getIngestion(@PathVariable String trackingId)
+            throws TimeZoneIngestionNotFoundException {
+        return ResponseEntity.ok(TimeZoneMapper.toDto(timeZoneIngestionQueue.get(trackingId)));
+    }
+}
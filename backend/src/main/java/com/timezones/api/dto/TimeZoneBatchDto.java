@@ -0,0 +1,30 @@
+package com.timezones.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.Nulls;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class TimeZoneBatchDto {
+
+    // A missing or null operation list is an empty one
+    @JsonSetter(nulls = Nulls.AS_EMPTY)
+    private List<PartialTimeZoneDto> create = new ArrayList<>();
+
+    @JsonSetter(nulls = Nulls.AS_EMPTY)
+    private List<TimeZoneBatchUpdateDto> update = new ArrayList<>();
+
+    @JsonSetter(nulls = Nulls.AS_EMPTY)
+    private List<Long> delete = new ArrayList<>();
+
+    public TimeZoneBatchDto(List<PartialTimeZoneDto> create, List<TimeZoneBatchUpdateDto> update, List<Long> delete) {
+        this.create = create;
+        this.update = update;
+        this.delete = delete;
+    }
+}
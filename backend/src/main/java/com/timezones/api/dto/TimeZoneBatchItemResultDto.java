@@ -0,0 +1,31 @@
+package com.timezones.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TimeZoneBatchItemResultDto {
+
+    @Schema(example = "0", description = "Position of the item in its operation array")
+    private int index;
+
+    @Schema(example = "1")
+    private Long id;
+
+    @Schema(example = "201", description = "HTTP status the item would have had as a single request")
+    private int status;
+
+    @Schema(example = "Time zone label should be a non-empty string")
+    private String message;
+
+    public TimeZoneBatchItemResultDto(int index, Long id, int status, String message) {
+        this.index = index;
+        this.id = id;
+        this.status = status;
+        this.message = message;
+    }
+}
@@ -0,0 +1,18 @@
+package com.timezones.api.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class TimeZoneBatchResultDto {
+
+    private List<TimeZoneBatchItemResultDto> created = new ArrayList<>();
+
+    private List<TimeZoneBatchItemResultDto> updated = new ArrayList<>();
+
+    private List<TimeZoneBatchItemResultDto> deleted = new ArrayList<>();
+}
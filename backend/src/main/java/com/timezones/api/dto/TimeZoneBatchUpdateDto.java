@@ -0,0 +1,20 @@
+package com.timezones.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+public class TimeZoneBatchUpdateDto extends PartialTimeZoneDto {
+
+    @Schema(example = "1")
+    private Long id;
+
+    public TimeZoneBatchUpdateDto(Long id, String label, String dateTime, String offsetFromUTC) {
+        super(label, dateTime, offsetFromUTC);
+        this.id = id;
+    }
+}
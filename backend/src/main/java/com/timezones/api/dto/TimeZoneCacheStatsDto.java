@@ -0,0 +1,33 @@
+package com.timezones.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class TimeZoneCacheStatsDto {
+
+    @Schema(example = "120")
+    private long size;
+
+    @Schema(example = "9500")
+    private long hitCount;
+
+    @Schema(example = "500")
+    private long missCount;
+
+    @Schema(example = "0.95")
+    private double hitRate;
+
+    @Schema(example = "12")
+    private long evictionCount;
+
+    public TimeZoneCacheStatsDto(long size, long hitCount, long missCount, double hitRate, long evictionCount) {
+        this.size = size;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.hitRate = hitRate;
+        this.evictionCount = evictionCount;
+    }
+}
@@ -0,0 +1,27 @@
+package com.timezones.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TimeZoneChangeDto {
+
+    @Schema(example = "UPDATED", allowableValues = { "CREATED", "UPDATED", "DELETED" })
+    private String type;
+
+    @Schema(example = "1")
+    private Long id;
+
+    @Schema(description = "State of the time zone after the change, absent for deletions")
+    private TimeZoneDto timeZone;
+
+    public TimeZoneChangeDto(String type, Long id, TimeZoneDto timeZone) {
+        this.type = type;
+        this.id = id;
+        this.timeZone = timeZone;
+    }
+}
@@ -0,0 +1,27 @@
+package com.timezones.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class TimeZoneChangeSetDto {
+
+    @Schema(description = "Time zones created or updated since the given watermark")
+    private List<TimeZoneDto> items;
+
+    @Schema(description = "Ids of the time zones deleted since the given watermark")
+    private List<Long> deleted;
+
+    @Schema(example = "2024-03-03T01:02:03.123456", description = "Watermark to send back on the next call")
+    private String watermark;
+
+    public TimeZoneChangeSetDto(List<TimeZoneDto> items, List<Long> deleted, String watermark) {
+        this.items = items;
+        this.deleted = deleted;
+        this.watermark = watermark;
+    }
+}
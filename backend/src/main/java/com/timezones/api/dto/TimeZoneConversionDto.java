@@ -0,0 +1,29 @@
+package com.timezones.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class TimeZoneConversionDto {
+
+    @Schema(example = "2024-03-03T01:02:03Z", description = "Instant to convert, instead of a local date-time")
+    private String instant;
+
+    @Schema(example = "2024-03-03T01:02:03", description = "Local date-time of the source time zone to convert")
+    private String localDateTime;
+
+    @Schema(example = "1", description = "Id of the source time zone, only for a local date-time")
+    private Long from;
+
+    @Schema(example = "2", description = "Id of the target time zone")
+    private Long to;
+
+    public TimeZoneConversionDto(String instant, String localDateTime, Long from, Long to) {
+        this.instant = instant;
+        this.localDateTime = localDateTime;
+        this.from = from;
+        this.to = to;
+    }
+}
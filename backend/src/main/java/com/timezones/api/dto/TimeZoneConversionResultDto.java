@@ -0,0 +1,25 @@
+package com.timezones.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class TimeZoneConversionResultDto {
+
+    @Schema(example = "2024-03-03T01:02:03Z")
+    private String instant;
+
+    @Schema(example = "2024-03-03T02:02:03", description = "Local date-time of the target time zone")
+    private String localDateTime;
+
+    @Schema(example = "+01:00", description = "Offset of the target time zone")
+    private String offsetFromUTC;
+
+    public TimeZoneConversionResultDto(String instant, String localDateTime, String offsetFromUTC) {
+        this.instant = instant;
+        this.localDateTime = localDateTime;
+        this.offsetFromUTC = offsetFromUTC;
+    }
+}
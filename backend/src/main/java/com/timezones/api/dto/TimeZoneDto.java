@@ -1,5 +1,6 @@
 package com.timezones.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -26,6 +27,10 @@ public class TimeZoneDto {
     @Schema(example = "2024-03-03T01:02:03")
     private String updatedAt;
 
+    // Exposed as the ETag header rather than in the body
+    @JsonIgnore
+    private Long version;
+
     public TimeZoneDto(String label, String dateTime, String offsetFromUTC) {
         this.label = label;
         this.dateTime = dateTime;
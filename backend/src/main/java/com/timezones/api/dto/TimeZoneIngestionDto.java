@@ -0,0 +1,31 @@
+package com.timezones.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TimeZoneIngestionDto {
+
+    @Schema(example = "5f0c7a4e-9d1b-4c1e-8a57-2f6d3b9e0c41")
+    private String trackingId;
+
+    @Schema(example = "CREATED", allowableValues = { "PENDING", "CREATED", "FAILED" })
+    private String status;
+
+    @Schema(example = "1", description = "Id of the created time zone")
+    private Long id;
+
+    @Schema(example = "Could not write the time zones")
+    private String message;
+
+    public TimeZoneIngestionDto(String trackingId, String status, Long id, String message) {
+        this.trackingId = trackingId;
+        this.status = status;
+        this.id = id;
+        this.message = message;
+    }
+}
@@ -0,0 +1,29 @@
+package com.timezones.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class TimeZoneLocalTimeDto {
+
+    @Schema(example = "1")
+    private Long id;
+
+    @Schema(example = "Europe/Paris")
+    private String label;
+
+    @Schema(example = "2024-03-03T01:02:03")
+    private String localDateTime;
+
+    @Schema(example = "+01:00")
+    private String offsetFromUTC;
+
+    public TimeZoneLocalTimeDto(Long id, String label, String localDateTime, String offsetFromUTC) {
+        this.id = id;
+        this.label = label;
+        this.localDateTime = localDateTime;
+        this.offsetFromUTC = offsetFromUTC;
+    }
+}
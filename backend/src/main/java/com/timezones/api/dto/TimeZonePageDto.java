@@ -0,0 +1,28 @@
+package com.timezones.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class TimeZonePageDto {
+
+    private List<TimeZoneDto> items;
+
+    @Schema(example = "MTI", nullable = true)
+    private String next;
+
+    @Schema(example = "42", nullable = true)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long total;
+
+    public TimeZonePageDto(List<TimeZoneDto> items, String next, Long total) {
+        this.items = items;
+        this.next = next;
+        this.total = total;
+    }
+}
@@ -3,13 +3,24 @@ package com.timezones.api.mapper;
 import com.timezones.api.dto.PartialTimeZoneDto;
 import com.timezones.domain.exceptions.*;
 
-import java.util.regex.Pattern;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
 
 public class TimeZoneDtoValidator {
-    private static final String DATE_TIME_REGEX = "^\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}$";
-    private static final String OFFSET_REGEX = "^[+-]\\d{2}:\\d{2}$";
+    private static final int DATE_TIME_LENGTH = "yyyy-MM-ddTHH:mm:ss".length();
+    private static final int OFFSET_LENGTH = "+HH:mm".length();
 
-    public static void validate(PartialTimeZoneDto partialTimeZoneDto) throws IllegalArgumentException {
+    public static void validate(PartialTimeZoneDto partialTimeZoneDto) throws TimeZoneValidationException {
+        validateRequiredFields(partialTimeZoneDto);
+        parseDateTime(partialTimeZoneDto.getDateTime());
+        parseOffset(partialTimeZoneDto.getOffsetFromUTC());
+    }
+
+    public static void validateRequiredFields(PartialTimeZoneDto partialTimeZoneDto) throws TimeZoneValidationException {
         if (partialTimeZoneDto.getLabel() == null || partialTimeZoneDto.getLabel().isEmpty()) {
             throw new TimeZoneLabelException();
         }
@@ -21,13 +32,129 @@ public class TimeZoneDtoValidator {
         if (partialTimeZoneDto.getOffsetFromUTC() == null || partialTimeZoneDto.getOffsetFromUTC().isEmpty()) {
             throw new TimeZoneOffsetException();
         }
+    }
+
+    /**
+     * Checks and parses yyyy-MM-ddTHH:mm:ss in a single pass over the characters.
+     */
+    public static LocalDateTime parseDateTime(String dateTime) throws TimeZoneDateTimeFormatException {
+        if (dateTime.length() != DATE_TIME_LENGTH
+                || dateTime.charAt(4) != '-' || dateTime.charAt(7) != '-' || dateTime.charAt(10) != 'T'
+                || dateTime.charAt(13) != ':' || dateTime.charAt(16) != ':') {
+            throw new TimeZoneDateTimeFormatException();
+        }
 
-        if (!Pattern.matches(DATE_TIME_REGEX, partialTimeZoneDto.getDateTime())) {
+        int year = readDigits(dateTime, 0, 4);
+        int month = readDigits(dateTime, 5, 2);
+        int day = readDigits(dateTime, 8, 2);
+        int hour = readDigits(dateTime, 11, 2);
+        int minute = readDigits(dateTime, 14, 2);
+        int second = readDigits(dateTime, 17, 2);
+        if (year < 0 || month < 0 || day < 0 || hour < 0 || minute < 0 || second < 0) {
             throw new TimeZoneDateTimeFormatException();
         }
 
-        if (!Pattern.matches(OFFSET_REGEX, partialTimeZoneDto.getOffsetFromUTC())) {
+        try {
+            return LocalDateTime.of(year, month, day, hour, minute, second);
+        } catch (DateTimeException e) {
+            throw new TimeZoneDateTimeFormatException();
+        }
+    }
+
+    /**
+     * Checks and parses +HH:mm or -HH:mm in a single pass over the characters.
+     */
+    public static ZoneOffset parseOffset(String offset) throws TimeZoneOffsetFormatException {
+        if (offset.length() != OFFSET_LENGTH || offset.charAt(3) != ':') {
             throw new TimeZoneOffsetFormatException();
         }
+
+        char sign = offset.charAt(0);
+        int hours = readDigits(offset, 1, 2);
+        int minutes = readDigits(offset, 4, 2);
+        if ((sign != '+' && sign != '-') || hours < 0 || minutes < 0) {
+            throw new TimeZoneOffsetFormatException();
+        }
+
+        try {
+            return sign == '+'
+                    ? ZoneOffset.ofHoursMinutes(hours, minutes)
+                    : ZoneOffset.ofHoursMinutes(-hours, -minutes);
+        } catch (DateTimeException e) {
+            throw new TimeZoneOffsetFormatException();
+        }
+    }
+
+    public static LocalDateTime parseWatermark(String watermark) throws TimeZoneWatermarkException {
+        try {
+            return LocalDateTime.parse(watermark);
+        } catch (DateTimeParseException e) {
+            throw new TimeZoneWatermarkException();
+        }
+    }
+
+    /**
+     * Reads the versions out of the comma-separated ETags of an If-Match header, or returns null for "*", which
+     * matches any version. Weak ETags never match with the strong comparison of If-Match, they are left out as are
+     * the ETags that are not ours.
+     */
+    public static List<Long> parseETags(String header) {
+        List<Long> versions = new ArrayList<>(1);
+        int position = 0;
+        while (position < header.length()) {
+            char c = header.charAt(position);
+            if (c == '*') {
+                return null;
+            }
+            if (c != '"' && c != 'W') {
+                position++;
+                continue;
+            }
+            int start = header.indexOf('"', position);
+            int end = start < 0 ? -1 : header.indexOf('"', start + 1);
+            if (end < 0) {
+                break;
+            }
+            long version = c == 'W' ? -1 : readVersion(header, start + 1, end - start - 1);
+            if (version >= 0) {
+                versions.add(version);
+            }
+            position = end + 1;
+        }
+        return versions;
+    }
+
+    /**
+     * Returns the value of the given digits, or -1 if there are none, if one of them is not an ASCII digit or if they
+     * overflow a long.
+     */
+    private static long readVersion(String value, int position, int length) {
+        if (length == 0) {
+            return -1;
+        }
+        long result = 0;
+        for (int i = position; i < position + length; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || result > (Long.MAX_VALUE - digit) / 10) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the value of the given digits, or -1 if one of them is not an ASCII digit.
+     */
+    private static int readDigits(String value, int position, int length) {
+        int result = 0;
+        for (int i = position; i < position + length; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
     }
 }
@@ -1,38 +1,181 @@
 package com.timezones.api.mapper;
 
 import com.timezones.api.dto.PartialTimeZoneDto;
+import com.timezones.api.dto.TimeZoneConversionResultDto;
 import com.timezones.api.dto.TimeZoneDto;
+import com.timezones.api.dto.TimeZoneIngestionDto;
+import com.timezones.api.dto.TimeZoneLocalTimeDto;
+import com.timezones.api.dto.TimeZonePageDto;
 import com.timezones.domain.model.TimeZone;
+import com.timezones.domain.model.TimeZoneConversions;
+import com.timezones.domain.model.TimeZoneIngestion;
+import com.timezones.domain.model.TimeZoneLocalTimes;
+import com.timezones.domain.model.TimeZonePage;
+import com.timezones.domain.model.TimeZoneView;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 
 public class TimeZoneMapper {
 
-    public static TimeZoneDto toDto(TimeZone timeZone) {
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private static final String UTC_OFFSET = "+00:00";
+
+    private static final long SECONDS_PER_DAY = 86400;
+
+    public static TimeZoneDto toDto(TimeZoneView timeZone) {
         TimeZoneDto dto = new TimeZoneDto();
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
 
         dto.setId(timeZone.getId());
         dto.setLabel(timeZone.getLabel());
-        dto.setDateTime(timeZone.getDateTime().format(dateTimeFormatter));
-        dto.setOffsetFromUTC(
-                timeZone.getOffsetFromUTC() == ZoneOffset.UTC ? "+00:00" : timeZone.getOffsetFromUTC().toString()
-        );
-        dto.setCreatedAt(timeZone.getCreatedAt().format(dateTimeFormatter));
-        dto.setUpdatedAt(timeZone.getUpdatedAt().format(dateTimeFormatter));
+        dto.setDateTime(formatDateTime(timeZone.getDateTime()));
+        dto.setOffsetFromUTC(formatOffset(timeZone.getOffsetFromUTC()));
+        dto.setCreatedAt(formatDateTime(timeZone.getCreatedAt()));
+        dto.setUpdatedAt(formatDateTime(timeZone.getUpdatedAt()));
+        dto.setVersion(timeZone.getVersion());
 
         return dto;
     }
 
+    /**
+     * Formats as yyyy-MM-dd'T'HH:mm:ss by writing the digits straight into the string bytes,
+     * the formatter is only used for years that do not fit in four digits.
+     */
+    public static String formatDateTime(LocalDateTime dateTime) {
+        int year = dateTime.getYear();
+        if (year < 0 || year > 9999) {
+            return dateTime.format(DATE_TIME_FORMATTER);
+        }
+
+        return format(
+                year,
+                dateTime.getMonthValue(),
+                dateTime.getDayOfMonth(),
+                dateTime.getHour(),
+                dateTime.getMinute(),
+                dateTime.getSecond()
+        );
+    }
+
+    /**
+     * Formats seconds elapsed since 1970-01-01T00:00:00 of the local time line, without building a LocalDateTime.
+     * Days are turned into a civil date with the era-based algorithm of the proleptic Gregorian calendar
+     * (eras of 400 years starting on March 1st, so that the leap day ends the year).
+     */
+    public static String formatLocalEpochSecond(long localEpochSecond) {
+        long days = Math.floorDiv(localEpochSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(localEpochSecond, SECONDS_PER_DAY);
+
+        long daysSinceEra0 = days + 719468;
+        long era = Math.floorDiv(daysSinceEra0, 146097);
+        long dayOfEra = daysSinceEra0 - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long monthFromMarch = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * monthFromMarch + 2) / 5 + 1);
+        int month = (int) (monthFromMarch < 10 ? monthFromMarch + 3 : monthFromMarch - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        if (year < 0 || year > 9999) {
+            return LocalDateTime.ofEpochSecond(localEpochSecond, 0, ZoneOffset.UTC).format(DATE_TIME_FORMATTER);
+        }
+
+        return format((int) year, month, day, secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60);
+    }
+
+    private static String format(int year, int month, int day, int hour, int minute, int second) {
+        byte[] bytes = new byte[19];
+        writeDigits(bytes, 0, year, 4);
+        bytes[4] = '-';
+        writeDigits(bytes, 5, month, 2);
+        bytes[7] = '-';
+        writeDigits(bytes, 8, day, 2);
+        bytes[10] = 'T';
+        writeDigits(bytes, 11, hour, 2);
+        bytes[13] = ':';
+        writeDigits(bytes, 14, minute, 2);
+        bytes[16] = ':';
+        writeDigits(bytes, 17, second, 2);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * ZoneOffset already keeps its id as a field, only UTC needs replacing since its id is "Z".
+     */
+    public static String formatOffset(ZoneOffset offset) {
+        return offset.getTotalSeconds() == 0 ? UTC_OFFSET : offset.getId();
+    }
+
+    private static void writeDigits(byte[] bytes, int position, int value, int length) {
+        for (int i = position + length - 1; i >= position; i--) {
+            bytes[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    /**
+     * Strong ETag of a time zone, its version changes on every update.
+     */
+    public static String toETag(Long version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    public static List<TimeZoneLocalTimeDto> toDto(TimeZoneLocalTimes localTimes) {
+        long[] ids = localTimes.getIds();
+        List<TimeZoneLocalTimeDto> dtos = new ArrayList<>(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            dtos.add(new TimeZoneLocalTimeDto(
+                    ids[i],
+                    localTimes.getLabels()[i],
+                    formatLocalEpochSecond(localTimes.getLocalEpochSeconds()[i]),
+                    formatOffset(ZoneOffset.ofTotalSeconds(localTimes.getOffsetSeconds()[i]))
+            ));
+        }
+        return dtos;
+    }
+
+    public static List<TimeZoneConversionResultDto> toDto(TimeZoneConversions conversions) {
+        long[] epochSeconds = conversions.getEpochSeconds();
+        List<TimeZoneConversionResultDto> dtos = new ArrayList<>(epochSeconds.length);
+        for (int i = 0; i < epochSeconds.length; i++) {
+            dtos.add(new TimeZoneConversionResultDto(
+                    Instant.ofEpochSecond(epochSeconds[i]).toString(),
+                    formatLocalEpochSecond(conversions.getLocalEpochSeconds()[i]),
+                    formatOffset(ZoneOffset.ofTotalSeconds(conversions.getOffsetSeconds()[i]))
+            ));
+        }
+        return dtos;
+    }
+
+    public static TimeZonePageDto toDto(TimeZonePage timeZonePage) {
+        return new TimeZonePageDto(
+                timeZonePage.getTimeZones().stream().map(TimeZoneMapper::toDto).toList(),
+                timeZonePage.getNext(),
+                timeZonePage.getTotal()
+        );
+    }
+
+    public static TimeZoneIngestionDto toDto(TimeZoneIngestion ingestion) {
+        return new TimeZoneIngestionDto(
+                ingestion.getTrackingId(),
+                ingestion.getStatus().name(),
+                ingestion.getTimeZoneId(),
+                ingestion.getError()
+        );
+    }
+
     public static TimeZone toEntity(PartialTimeZoneDto partialTimeZoneDto) {
-        TimeZoneDtoValidator.validate(partialTimeZoneDto);
+        TimeZoneDtoValidator.validateRequiredFields(partialTimeZoneDto);
         TimeZone timeZone = new TimeZone();
 
         timeZone.setLabel(partialTimeZoneDto.getLabel());
-        timeZone.setDateTime(LocalDateTime.parse(partialTimeZoneDto.getDateTime()));
-        timeZone.setOffsetFromUTC(ZoneOffset.of(partialTimeZoneDto.getOffsetFromUTC()));
+        timeZone.setDateTime(TimeZoneDtoValidator.parseDateTime(partialTimeZoneDto.getDateTime()));
+        timeZone.setOffsetFromUTC(TimeZoneDtoValidator.parseOffset(partialTimeZoneDto.getOffsetFromUTC()));
 
         return timeZone;
     }
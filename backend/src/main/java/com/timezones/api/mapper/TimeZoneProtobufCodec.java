@@ -0,0 +1,279 @@
+package com.timezones.api.mapper;
+
+import com.timezones.domain.model.TimeZone;
+import com.timezones.domain.model.TimeZonePage;
+import com.timezones.domain.model.TimeZoneView;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Protocol Buffers encoding of time zone pages, as described by src/main/proto/timezones.proto, written by hand to
+ * avoid a code generator. Date-times are seconds from 1970-01-01T00:00:00 and offsets are seconds, both as zigzag
+ * varints, so that no date-time is formatted nor parsed on either side.
+ */
+public class TimeZoneProtobufCodec {
+
+    public static final String MEDIA_TYPE_VALUE = "application/x-protobuf";
+
+    private static final int VARINT = 0;
+
+    private static final int LENGTH_DELIMITED = 2;
+
+    // TimeZonePage fields
+    private static final int TIME_ZONES = 1;
+    private static final int NEXT = 2;
+    private static final int TOTAL = 3;
+
+    // TimeZone fields
+    private static final int ID = 1;
+    private static final int LABEL = 2;
+    private static final int DATE_TIME = 3;
+    private static final int OFFSET_FROM_UTC = 4;
+    private static final int CREATED_AT = 5;
+    private static final int UPDATED_AT = 6;
+    private static final int VERSION = 7;
+
+    public static byte[] encode(TimeZonePage timeZonePage) {
+        Writer writer = writeTimeZones(timeZonePage.getTimeZones());
+        if (timeZonePage.getNext() != null) {
+            writer.tag(NEXT, LENGTH_DELIMITED);
+            writer.string(timeZonePage.getNext());
+        }
+        if (timeZonePage.getTotal() != null) {
+            writer.tag(TOTAL, VARINT);
+            writer.varint(timeZonePage.getTotal());
+        }
+        return writer.toByteArray();
+    }
+
+    /**
+     * Encodes the full list as a single TimeZonePage, without next cursor nor total.
+     */
+    public static byte[] encode(List<? extends TimeZoneView> timeZones) {
+        return writeTimeZones(timeZones).toByteArray();
+    }
+
+    private static Writer writeTimeZones(List<? extends TimeZoneView> timeZones) {
+        Writer writer = new Writer(timeZones.size() * 48 + 32);
+        for (TimeZoneView timeZone : timeZones) {
+            writer.tag(TIME_ZONES, LENGTH_DELIMITED);
+            int start = writer.startLengthDelimited();
+            if (timeZone.getId() != null) {
+                writer.tag(ID, VARINT);
+                writer.varint(timeZone.getId());
+            }
+            if (timeZone.getLabel() != null) {
+                writer.tag(LABEL, LENGTH_DELIMITED);
+                writer.string(timeZone.getLabel());
+            }
+            writer.dateTime(DATE_TIME, timeZone.getDateTime());
+            if (timeZone.getOffsetFromUTC() != null) {
+                writer.tag(OFFSET_FROM_UTC, VARINT);
+                writer.varint(zigzag(timeZone.getOffsetFromUTC().getTotalSeconds()));
+            }
+            writer.dateTime(CREATED_AT, timeZone.getCreatedAt());
+            writer.dateTime(UPDATED_AT, timeZone.getUpdatedAt());
+            if (timeZone.getVersion() != null) {
+                writer.tag(VERSION, VARINT);
+                writer.varint(timeZone.getVersion());
+            }
+            writer.endLengthDelimited(start);
+        }
+        return writer;
+    }
+
+    public static TimeZonePage decode(byte[] bytes) {
+        Reader reader = new Reader(bytes, 0, bytes.length);
+        List<TimeZone> timeZones = new ArrayList<>();
+        String next = null;
+        Long total = null;
+        while (reader.hasRemaining()) {
+            int tag = (int) reader.varint();
+            switch (tag >>> 3) {
+                case TIME_ZONES -> timeZones.add(decodeTimeZone(reader.lengthDelimited()));
+                case NEXT -> next = reader.string();
+                case TOTAL -> total = reader.varint();
+                default -> reader.skip(tag & 7);
+            }
+        }
+        return new TimeZonePage(timeZones, next, total);
+    }
+
+    private static TimeZone decodeTimeZone(Reader reader) {
+        TimeZone timeZone = new TimeZone();
+        while (reader.hasRemaining()) {
+            int tag = (int) reader.varint();
+            switch (tag >>> 3) {
+                case ID -> timeZone.setId(reader.varint());
+                case LABEL -> timeZone.setLabel(reader.string());
+                case DATE_TIME -> timeZone.setDateTime(dateTime(unzigzag(reader.varint())));
+                case OFFSET_FROM_UTC -> timeZone.setOffsetFromUTC(
+                        ZoneOffset.ofTotalSeconds((int) unzigzag(reader.varint()))
+                );
+                case CREATED_AT -> timeZone.setCreatedAt(dateTime(unzigzag(reader.varint())));
+                case UPDATED_AT -> timeZone.setUpdatedAt(dateTime(unzigzag(reader.varint())));
+                case VERSION -> timeZone.setVersion(reader.varint());
+                default -> reader.skip(tag & 7);
+            }
+        }
+        return timeZone;
+    }
+
+    private static LocalDateTime dateTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class Writer {
+
+        private byte[] buffer;
+
+        private int position;
+
+        private Writer(int capacity) {
+            this.buffer = new byte[capacity];
+        }
+
+        void tag(int field, int wireType) {
+            this.varint((long) field << 3 | wireType);
+        }
+
+        void varint(long value) {
+            this.ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void dateTime(int field, LocalDateTime dateTime) {
+            if (dateTime != null) {
+                this.tag(field, VARINT);
+                this.varint(zigzag(dateTime.toEpochSecond(ZoneOffset.UTC)));
+            }
+        }
+
+        void string(String value) {
+            int start = this.startLengthDelimited();
+            this.ensureCapacity(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c >= 0x80) {
+                    // Rare enough to rewrite the whole string through the JDK encoder
+                    position = start;
+                    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                    this.ensureCapacity(bytes.length);
+                    System.arraycopy(bytes, 0, buffer, position, bytes.length);
+                    position += bytes.length;
+                    break;
+                }
+                buffer[position++] = (byte) c;
+            }
+            this.endLengthDelimited(start);
+        }
+
+        // Leaves one byte for the length, enough below 128 bytes, the content is moved otherwise
+        int startLengthDelimited() {
+            this.ensureCapacity(1);
+            return ++position;
+        }
+
+        void endLengthDelimited(int start) {
+            int length = position - start;
+            int lengthSize = 1;
+            while ((length >>> (7 * lengthSize)) != 0) {
+                lengthSize++;
+            }
+            if (lengthSize > 1) {
+                this.ensureCapacity(lengthSize - 1);
+                System.arraycopy(buffer, start, buffer, start + lengthSize - 1, length);
+                position += lengthSize - 1;
+            }
+            int index = start - 1;
+            long value = length;
+            while ((value & ~0x7FL) != 0) {
+                buffer[index++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[index] = (byte) value;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensureCapacity(int size) {
+            if (position + size > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + size));
+            }
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] bytes;
+
+        private int position;
+
+        private final int end;
+
+        private Reader(byte[] bytes, int position, int end) {
+            this.bytes = bytes;
+            this.position = position;
+            this.end = end;
+        }
+
+        boolean hasRemaining() {
+            return position < end;
+        }
+
+        long varint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+
+        Reader lengthDelimited() {
+            int length = (int) this.varint();
+            Reader reader = new Reader(bytes, position, position + length);
+            position += length;
+            return reader;
+        }
+
+        String string() {
+            int length = (int) this.varint();
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        void skip(int wireType) {
+            switch (wireType) {
+                case VARINT -> this.varint();
+                case 1 -> position += 8;
+                case LENGTH_DELIMITED -> position += (int) this.varint();
+                case 5 -> position += 4;
+                default -> throw new IllegalArgumentException("Unsupported wire type: " + wireType);
+            }
+        }
+    }
+}
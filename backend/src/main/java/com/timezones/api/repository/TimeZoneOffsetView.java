@@ -0,0 +1,15 @@
+package com.timezones.api.repository;
+
+import java.time.ZoneOffset;
+
+/**
+ * Projection of the columns needed to compute local times, without the rest of the entity.
+ */
+public interface TimeZoneOffsetView {
+
+    Long getId();
+
+    String getLabel();
+
+    ZoneOffset getOffsetFromUTC();
+}
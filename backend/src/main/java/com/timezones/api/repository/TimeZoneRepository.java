@@ -1,9 +1,75 @@
 package com.timezones.api.repository;
 
 import com.timezones.domain.model.TimeZone;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.ListCrudRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface TimeZoneRepository extends ListCrudRepository<TimeZone, Long> {
-}
\ No newline at end of file
+
+    List<TimeZone> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    List<TimeZone> findByLabelOrderByIdAsc(String label);
+
+    List<TimeZone> findByLabelStartingWithOrderByLabelAscIdAsc(String labelPrefix);
+
+    List<TimeZone> findByOffsetFromUTCOrderByIdAsc(ZoneOffset offsetFromUTC);
+
+    List<TimeZone> findByDateTimeBetweenOrderByDateTimeAscIdAsc(LocalDateTime from, LocalDateTime to);
+
+    List<TimeZone> findByUpdatedAtAfterOrderByUpdatedAtAscIdAsc(LocalDateTime since);
+
+    @Query("select t.id from TimeZone t where t.id in :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    @Modifying
+    @Query("update TimeZone t set t.label = :label, t.dateTime = :dateTime, t.offsetFromUTC = :offsetFromUTC, "
+            + "t.updatedAt = :updatedAt, t.version = t.version + 1 where t.id = :id")
+    int updateById(Long id, String label, LocalDateTime dateTime, ZoneOffset offsetFromUTC, LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("update TimeZone t set t.label = :label, t.dateTime = :dateTime, t.offsetFromUTC = :offsetFromUTC, "
+            + "t.updatedAt = :updatedAt, t.version = t.version + 1 where t.id = :id and t.version in :versions")
+    int updateByIdAndVersionIn(
+            Long id,
+            Collection<Long> versions,
+            String label,
+            LocalDateTime dateTime,
+            ZoneOffset offsetFromUTC,
+            LocalDateTime updatedAt
+    );
+
+    @Modifying
+    @Query("delete from TimeZone t where t.id = :id")
+    int deleteOneById(Long id);
+
+    @Modifying
+    @Query("delete from TimeZone t where t.id = :id and t.version in :versions")
+    int deleteByIdAndVersionIn(Long id, Collection<Long> versions);
+
+    @Modifying
+    @Query("delete from TimeZone t where t.id in :ids")
+    int deleteByIds(Collection<Long> ids);
+
+    @Query("select t.id as id, t.label as label, t.offsetFromUTC as offsetFromUTC from TimeZone t order by t.id")
+    List<TimeZoneOffsetView> findAllOffsets();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from TimeZone t order by t.id")
+    Stream<TimeZone> streamAll();
+}
@@ -0,0 +1,21 @@
+package com.timezones.api.repository;
+
+import com.timezones.domain.model.TimeZoneTombstone;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TimeZoneTombstoneRepository extends ListCrudRepository<TimeZoneTombstone, Long> {
+
+    @Query("select t.id from TimeZoneTombstone t where t.deletedAt > :since order by t.deletedAt, t.id")
+    List<Long> findIdsDeletedAfter(LocalDateTime since);
+
+    @Modifying
+    @Query("delete from TimeZoneTombstone t where t.deletedAt < :before")
+    int purgeDeletedBefore(LocalDateTime before);
+}
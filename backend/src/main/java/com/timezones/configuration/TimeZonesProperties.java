@@ -0,0 +1,158 @@
+package com.timezones.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "timezones")
+public class TimeZonesProperties {
+
+    private final Pagination pagination = new Pagination();
+
+    private final Batch batch = new Batch();
+
+    private final Cache cache = new Cache();
+
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    private final Changes changes = new Changes();
+
+    private final Conversion conversion = new Conversion();
+
+    private final Rules rules = new Rules();
+
+    private final R2dbc r2dbc = new R2dbc();
+
+    private final Admission admission = new Admission();
+
+    private final Ingestion ingestion = new Ingestion();
+
+    @Data
+    public static class Pagination {
+
+        private int defaultSize = 50;
+
+        private int maxSize = 500;
+    }
+
+    @Data
+    public static class Batch {
+
+        private int maxSize = 10000;
+
+        private int flushSize = 50;
+    }
+
+    @Data
+    public static class Cache {
+
+        private long maximumSize = 10000;
+
+        private Duration timeToLive = Duration.ofMinutes(10);
+    }
+
+    @Data
+    public static class SingleFlight {
+
+        private Duration timeout = Duration.ofSeconds(5);
+    }
+
+    @Data
+    public static class Changes {
+
+        private Duration safetyMargin = Duration.ofSeconds(5);
+
+        private Duration tombstoneRetention = Duration.ofDays(7);
+
+        private Duration purgeInterval = Duration.ofHours(1);
+
+        private Duration streamTimeout = Duration.ofMinutes(30);
+
+        private int streamQueueCapacity = 256;  // Changes not yet sent to a client, which is dropped past it
+
+        private Duration heartbeatInterval = Duration.ofSeconds(15);
+    }
+
+    @Data
+    public static class Conversion {
+
+        private int maxSize = 100000;
+    }
+
+    @Data
+    public static class Rules {
+
+        private int fromYear = 1970;
+
+        private int toYear = 2100;
+    }
+
+    @Data
+    public static class R2dbc {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+    }
+
+    @Data
+    public static class Admission {
+
+        private boolean enabled = true;
+
+        private String clientHeader;  // Identifies the clients, by their address when not set or not sent
+
+        private RateLimit rateLimit = new RateLimit();
+
+        // By controller and method name, for example "TimeZoneController#batch", replaces the default rate limit
+        private Map<String, RateLimit> endpoints = new HashMap<>();
+
+        private Concurrency concurrency = new Concurrency();
+
+        private int maxConcurrentExports = 2;  // Each streamed export holds a database connection until it ends
+    }
+
+    @Data
+    public static class RateLimit {
+
+        private int capacity = 1000;  // Burst of requests allowed at once
+
+        private int refillPerSecond = 500;  // Sustained requests per second, 0 for no limit
+    }
+
+    @Data
+    public static class Concurrency {
+
+        private int initialLimit = 50;
+
+        private int minLimit = 10;
+
+        private int maxLimit = 200;
+
+        private Duration latencyThreshold = Duration.ofMillis(500);  // Slower requests decrease the limit
+
+        private double backoffRatio = 0.9;
+    }
+
+    @Data
+    public static class Ingestion {
+
+        private boolean enabled = false;
+
+        private int queueCapacity = 10000;
+
+        private int batchSize = 500;
+
+        private Duration flushInterval = Duration.ofMillis(200);
+
+        private Duration statusRetention = Duration.ofMinutes(10);
+
+        private long statusMaximumSize = 100000;
+    }
+}
@@ -1,9 +1,12 @@
 package com.timezones.configuration;
 
+import com.timezones.api.admission.TimeZoneAdmissionInterceptor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.lang.NonNull;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
@@ -19,4 +22,15 @@ public class WebConfig {
             }
         };
     }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public WebMvcConfigurer admissionConfigurer(TimeZoneAdmissionInterceptor admissionInterceptor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(@NonNull InterceptorRegistry interceptorRegistry) {
+                interceptorRegistry.addInterceptor(admissionInterceptor).addPathPatterns("/api/timezones/**");
+            }
+        };
+    }
 }
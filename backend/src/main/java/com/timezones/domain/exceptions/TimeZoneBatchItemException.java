@@ -0,0 +1,8 @@
+package com.timezones.domain.exceptions;
+
+public class TimeZoneBatchItemException extends TimeZoneValidationException {
+
+    public TimeZoneBatchItemException(String operation, int index, String expected) {
+        super("Time zone batch " + operation + " at index " + index + " should be " + expected);
+    }
+}
@@ -0,0 +1,8 @@
+package com.timezones.domain.exceptions;
+
+public class TimeZoneBatchSizeException extends TimeZoneValidationException {
+
+    public TimeZoneBatchSizeException(int maxSize) {
+        super("Time zone batch should contain at most " + maxSize + " operations");
+    }
+}
@@ -0,0 +1,9 @@
+package com.timezones.domain.exceptions;
+
+public class TimeZoneConversionException extends TimeZoneValidationException {
+
+    public TimeZoneConversionException(int index) {
+        super("Time zone conversion at index " + index + " should have a target time zone, "
+                + "and either an instant or a local date-time with its source time zone");
+    }
+}
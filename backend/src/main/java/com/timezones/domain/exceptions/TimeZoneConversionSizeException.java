@@ -0,0 +1,8 @@
+package com.timezones.domain.exceptions;
+
+public class TimeZoneConversionSizeException extends TimeZoneValidationException {
+
+    public TimeZoneConversionSizeException(int maxSize) {
+        super("Time zone conversions should be at most " + maxSize + " per request");
+    }
+}
@@ -0,0 +1,8 @@
+package com.timezones.domain.exceptions;
+
+public class TimeZoneCursorException extends TimeZoneValidationException {
+
+    public TimeZoneCursorException() {
+        super("Time zone cursor is invalid, use the next cursor returned by the previous page");
+    }
+}
@@ -1,6 +1,6 @@
 package com.timezones.domain.exceptions;
 
-public class TimeZoneDateTimeException extends IllegalArgumentException {
+public class TimeZoneDateTimeException extends TimeZoneValidationException {
 
     public TimeZoneDateTimeException() {
         super("Time zone date-time should be a non-empty string");
@@ -0,0 +1,8 @@
+package com.timezones.domain.exceptions;
+
+public class TimeZoneDateTimeRangeException extends TimeZoneValidationException {
+
+    public TimeZoneDateTimeRangeException() {
+        super("Time zone date-time range should not start after it ends");
+    }
+}
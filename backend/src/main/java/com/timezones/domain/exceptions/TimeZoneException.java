@@ -0,0 +1,13 @@
+package com.timezones.domain.exceptions;
+
+/**
+ * Expected outcome of a request, from a bad input to a missing time zone or an overloaded service. Its stack trace is
+ * never captured: the message alone tells what happened, and capturing the stack would cost more than the request
+ * that fails.
+ */
+public abstract class TimeZoneException extends RuntimeException {
+
+    protected TimeZoneException(String message) {
+        super(message, null, false, false);
+    }
+}
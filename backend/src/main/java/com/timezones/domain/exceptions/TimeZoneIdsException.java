@@ -0,0 +1,8 @@
+package com.timezones.domain.exceptions;
+
+public class TimeZoneIdsException extends TimeZoneValidationException {
+
+    public TimeZoneIdsException() {
+        super("Time zone ids should be a comma-separated list of ids, without empty values");
+    }
+}
@@ -0,0 +1,8 @@
+package com.timezones.domain.exceptions;
+
+public class TimeZoneIngestionNotFoundException extends TimeZoneException {
+
+    public TimeZoneIngestionNotFoundException(String trackingId) {
+        super("Time zone ingestion with tracking id: " + trackingId + " not found or expired");
+    }
+}
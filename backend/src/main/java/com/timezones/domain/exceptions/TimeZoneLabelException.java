@@ -1,6 +1,6 @@
 package com.timezones.domain.exceptions;
 
-public class TimeZoneLabelException extends IllegalArgumentException {
+public class TimeZoneLabelException extends TimeZoneValidationException {
 
     public TimeZoneLabelException() {
         super("Time zone label should be a non-empty string");
@@ -1,6 +1,6 @@
 package com.timezones.domain.exceptions;
 
-public class TimeZoneNotFoundException extends Exception {
+public class TimeZoneNotFoundException extends TimeZoneException {
 
     public TimeZoneNotFoundException(Long id) {
         super("Time zone with id: " + id + " not found");
@@ -1,6 +1,6 @@
 package com.timezones.domain.exceptions;
 
-public class TimeZoneOffsetException extends IllegalArgumentException {
+public class TimeZoneOffsetException extends TimeZoneValidationException {
 
     public TimeZoneOffsetException() {
         super("Time zone offset should be a non-empty string");
@@ -1,6 +1,6 @@
 package com.timezones.domain.exceptions;
 
-public class TimeZoneOffsetFormatException extends IllegalArgumentException {
+public class TimeZoneOffsetFormatException extends TimeZoneValidationException {
 
     public TimeZoneOffsetFormatException() {
         super("Time zone offset should have this specific format: +HH:mm or -HH:mm");
@@ -0,0 +1,8 @@
+package com.timezones.domain.exceptions;
+
+public class TimeZoneOverloadException extends TimeZoneException {
+
+    public TimeZoneOverloadException() {
+        super("Time zones service is overloaded, retry later");
+    }
+}
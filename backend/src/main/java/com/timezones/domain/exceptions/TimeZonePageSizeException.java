@@ -0,0 +1,8 @@
+package com.timezones.domain.exceptions;
+
+public class TimeZonePageSizeException extends TimeZoneValidationException {
+
+    public TimeZonePageSizeException() {
+        super("Time zone page size should be a positive number");
+    }
+}
@@ -0,0 +1,15 @@
+package com.timezones.domain.exceptions;
+
+public class TimeZoneRateLimitException extends TimeZoneException {
+
+    private final long retryAfterSeconds;
+
+    public TimeZoneRateLimitException(long retryAfterSeconds) {
+        super("Too many requests on this endpoint, retry in " + retryAfterSeconds + " seconds");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
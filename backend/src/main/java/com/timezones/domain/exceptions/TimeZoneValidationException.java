@@ -0,0 +1,11 @@
+package com.timezones.domain.exceptions;
+
+/**
+ * Rejection of an invalid request.
+ */
+public abstract class TimeZoneValidationException extends TimeZoneException {
+
+    protected TimeZoneValidationException(String message) {
+        super(message);
+    }
+}
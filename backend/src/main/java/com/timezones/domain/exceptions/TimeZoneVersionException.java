@@ -0,0 +1,8 @@
+package com.timezones.domain.exceptions;
+
+public class TimeZoneVersionException extends TimeZoneException {
+
+    public TimeZoneVersionException(Long id) {
+        super("Time zone with id: " + id + " has been modified since the given ETag, fetch it again");
+    }
+}
@@ -0,0 +1,8 @@
+package com.timezones.domain.exceptions;
+
+public class TimeZoneWatermarkException extends TimeZoneValidationException {
+
+    public TimeZoneWatermarkException() {
+        super("Time zone watermark is invalid, use the watermark returned by the previous call");
+    }
+}
@@ -0,0 +1,8 @@
+package com.timezones.domain.exceptions;
+
+public class TimeZoneWatermarkExpiredException extends TimeZoneValidationException {
+
+    public TimeZoneWatermarkExpiredException() {
+        super("Time zone watermark is older than the deletion history, synchronize again without watermark");
+    }
+}
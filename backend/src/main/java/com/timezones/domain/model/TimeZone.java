@@ -1,9 +1,6 @@
 package com.timezones.domain.model;
 
-import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
-import jakarta.persistence.Id;
+import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -13,10 +10,20 @@ import java.time.ZoneOffset;
 @Data
 @NoArgsConstructor
 @Entity
-public class TimeZone {
+@Table(indexes = {
+        @Index(name = "idx_time_zone_label", columnList = "label"),
+        @Index(name = "idx_time_zone_offset", columnList = "offset_fromutc"),
+        @Index(name = "idx_time_zone_date_time", columnList = "date_time"),
+        @Index(name = "idx_time_zone_updated_at", columnList = "updated_at")
+})
+public class TimeZone implements TimeZoneView {
+
+    // Ids drawn at once by each value of time_zone_seq, whose increment it must match
+    public static final int ID_ALLOCATION_SIZE = 50;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "time_zone_seq")
+    @SequenceGenerator(name = "time_zone_seq", sequenceName = "time_zone_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     private String label;  // Ex: "Europe/Paris"
@@ -29,6 +36,9 @@ public class TimeZone {
 
     private LocalDateTime updatedAt;  // Ex: "2024-01-01T00:00:00"
 
+    @Version
+    private Long version;
+
     public TimeZone(String label, LocalDateTime localDateTime, ZoneOffset zoneOffset) {
         this.label = label;
         this.dateTime = localDateTime;
@@ -0,0 +1,18 @@
+package com.timezones.domain.model;
+
+import lombok.Data;
+
+import java.util.Set;
+
+@Data
+public class TimeZoneBatchResult {
+
+    private final Set<Long> updatesNotFound;
+
+    private final Set<Long> deletionsNotFound;
+
+    public TimeZoneBatchResult(Set<Long> updatesNotFound, Set<Long> deletionsNotFound) {
+        this.updatesNotFound = updatesNotFound;
+        this.deletionsNotFound = deletionsNotFound;
+    }
+}
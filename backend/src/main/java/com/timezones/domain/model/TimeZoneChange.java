@@ -0,0 +1,24 @@
+package com.timezones.domain.model;
+
+import lombok.Data;
+
+/**
+ * Published by the service for every created, updated or deleted time zone, delivered once the transaction commits.
+ */
+@Data
+public class TimeZoneChange {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Type type;
+
+    private final Long id;
+
+    private final TimeZone timeZone;  // Only known for creations
+
+    public TimeZoneChange(Type type, Long id, TimeZone timeZone) {
+        this.type = type;
+        this.id = id;
+        this.timeZone = timeZone;
+    }
+}
@@ -0,0 +1,22 @@
+package com.timezones.domain.model;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class TimeZoneChangeSet {
+
+    private final List<TimeZone> timeZones;  // Created or updated since the previous watermark
+
+    private final List<Long> deletedIds;
+
+    private final LocalDateTime watermark;  // To send back on the next call
+
+    public TimeZoneChangeSet(List<TimeZone> timeZones, List<Long> deletedIds, LocalDateTime watermark) {
+        this.timeZones = timeZones;
+        this.deletedIds = deletedIds;
+        this.watermark = watermark;
+    }
+}
@@ -0,0 +1,22 @@
+package com.timezones.domain.model;
+
+import lombok.Data;
+
+/**
+ * Results of a batch of conversions, one array element per conversion.
+ */
+@Data
+public class TimeZoneConversions {
+
+    private final long[] epochSeconds;
+
+    private final int[] offsetSeconds;  // Offset of the target time zone
+
+    private final long[] localEpochSeconds;  // Seconds since 1970-01-01T00:00:00 on the target local time line
+
+    public TimeZoneConversions(long[] epochSeconds, int[] offsetSeconds, long[] localEpochSeconds) {
+        this.epochSeconds = epochSeconds;
+        this.offsetSeconds = offsetSeconds;
+        this.localEpochSeconds = localEpochSeconds;
+    }
+}
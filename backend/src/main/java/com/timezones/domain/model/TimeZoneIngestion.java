@@ -0,0 +1,24 @@
+package com.timezones.domain.model;
+
+import lombok.Data;
+
+@Data
+public class TimeZoneIngestion {
+
+    public enum Status { PENDING, CREATED, FAILED }
+
+    private final String trackingId;
+
+    private final Status status;
+
+    private final Long timeZoneId;  // Once created
+
+    private final String error;  // Once failed
+
+    public TimeZoneIngestion(String trackingId, Status status, Long timeZoneId, String error) {
+        this.trackingId = trackingId;
+        this.status = status;
+        this.timeZoneId = timeZoneId;
+        this.error = error;
+    }
+}
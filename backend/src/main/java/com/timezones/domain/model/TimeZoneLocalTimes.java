@@ -0,0 +1,25 @@
+package com.timezones.domain.model;
+
+import lombok.Data;
+
+/**
+ * Local time of several time zones at the same instant, one array element per time zone.
+ */
+@Data
+public class TimeZoneLocalTimes {
+
+    private final long[] ids;
+
+    private final String[] labels;
+
+    private final int[] offsetSeconds;
+
+    private final long[] localEpochSeconds;  // Seconds since 1970-01-01T00:00:00 on the local time line
+
+    public TimeZoneLocalTimes(long[] ids, String[] labels, int[] offsetSeconds, long[] localEpochSeconds) {
+        this.ids = ids;
+        this.labels = labels;
+        this.offsetSeconds = offsetSeconds;
+        this.localEpochSeconds = localEpochSeconds;
+    }
+}
@@ -0,0 +1,21 @@
+package com.timezones.domain.model;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class TimeZonePage {
+
+    private final List<TimeZone> timeZones;
+
+    private final String next;  // Opaque cursor of the next page, null on the last page
+
+    private final Long total;  // Only computed when requested
+
+    public TimeZonePage(List<TimeZone> timeZones, String next, Long total) {
+        this.timeZones = timeZones;
+        this.next = next;
+        this.total = total;
+    }
+}
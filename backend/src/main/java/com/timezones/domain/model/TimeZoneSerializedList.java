@@ -0,0 +1,19 @@
+package com.timezones.domain.model;
+
+import lombok.Data;
+
+@Data
+public class TimeZoneSerializedList {
+
+    private final long generation;
+
+    private final byte[] json;  // Body of GET /api/timezones
+
+    private final byte[] gzippedJson;
+
+    public TimeZoneSerializedList(long generation, byte[] json, byte[] gzippedJson) {
+        this.generation = generation;
+        this.json = json;
+        this.gzippedJson = gzippedJson;
+    }
+}
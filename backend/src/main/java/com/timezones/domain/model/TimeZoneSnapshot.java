@@ -0,0 +1,37 @@
+package com.timezones.domain.model;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Immutable copy of a time zone, safe to share between threads once the entity it was taken from is gone.
+ */
+@Data
+public class TimeZoneSnapshot implements TimeZoneView {
+
+    private final Long id;
+
+    private final String label;
+
+    private final LocalDateTime dateTime;
+
+    private final ZoneOffset offsetFromUTC;
+
+    private final LocalDateTime createdAt;
+
+    private final LocalDateTime updatedAt;
+
+    private final Long version;
+
+    public TimeZoneSnapshot(TimeZone timeZone) {
+        this.id = timeZone.getId();
+        this.label = timeZone.getLabel();
+        this.dateTime = timeZone.getDateTime();
+        this.offsetFromUTC = timeZone.getOffsetFromUTC();
+        this.createdAt = timeZone.getCreatedAt();
+        this.updatedAt = timeZone.getUpdatedAt();
+        this.version = timeZone.getVersion();
+    }
+}
@@ -0,0 +1,34 @@
+package com.timezones.domain.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@Entity
+@Table(indexes = @Index(name = "idx_time_zone_tombstone_deleted_at", columnList = "deleted_at"))
+public class TimeZoneTombstone implements Persistable<Long> {
+
+    @Id
+    private Long id;  // Id of the deleted time zone
+
+    private LocalDateTime deletedAt;  // Ex: "2024-01-01T00:00:00"
+
+    public TimeZoneTombstone(Long id, LocalDateTime deletedAt) {
+        this.id = id;
+        this.deletedAt = deletedAt;
+    }
+
+    // Tombstones are only ever inserted, this spares the select that merging an assigned id would run first
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
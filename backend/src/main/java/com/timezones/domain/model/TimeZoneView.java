@@ -0,0 +1,25 @@
+package com.timezones.domain.model;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Read access to the fields of a time zone, shared by the entity and its immutable snapshot so that they are mapped
+ * to the wire formats by the same code.
+ */
+public interface TimeZoneView {
+
+    Long getId();
+
+    String getLabel();
+
+    LocalDateTime getDateTime();
+
+    ZoneOffset getOffsetFromUTC();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    Long getVersion();
+}
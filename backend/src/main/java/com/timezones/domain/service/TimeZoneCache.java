@@ -0,0 +1,115 @@
+package com.timezones.domain.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.timezones.configuration.TimeZonesProperties;
+import com.timezones.domain.model.TimeZoneChange;
+import com.timezones.domain.model.TimeZoneSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of immutable time zone snapshots by id, evicted by size and by age, and on every committed change.
+ */
+@Component
+public class TimeZoneCache {
+
+    // Holds futures, so that a load never runs inside the lock of the map: a JDBC call there would pin the carrier
+    // of a virtual thread, and block the loads of the other ids of the same bin
+    private final AsyncCache<Long, TimeZoneSnapshot> cache;
+
+    private final TimeZonesProperties properties;
+
+    private final MeterRegistry meterRegistry;
+
+    public TimeZoneCache(TimeZonesProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getCache().getMaximumSize())
+                .expireAfterWrite(properties.getCache().getTimeToLive())
+                .recordStats()
+                .buildAsync();
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public TimeZoneSnapshot get(Long id) {
+        return cache.synchronous().getIfPresent(id);
+    }
+
+    /**
+     * Returns the cached snapshot or loads it on the calling thread. Concurrent misses for the same id wait for this
+     * single load as {@link TimeZoneSingleFlight} callers do, counted under the getById query, and load on their own
+     * past its timeout. Nothing is cached when the loader returns null or throws, nor when the id is evicted while it
+     * loads.
+     */
+    public TimeZoneSnapshot get(Long id, Function<Long, TimeZoneSnapshot> loader) {
+        CompletableFuture<TimeZoneSnapshot> load = new CompletableFuture<>();
+        CompletableFuture<TimeZoneSnapshot> cached = cache.get(id, (key, executor) -> load);
+        if (cached == load) {
+            try {
+                load.complete(loader.apply(id));
+            } catch (Throwable t) {
+                load.completeExceptionally(t);
+            }
+        } else if (!cached.isDone()) {
+            Duration timeout = properties.getSingleFlight().getTimeout();
+            if (timeout.isZero()) {
+                return loader.apply(id);
+            }
+            meterRegistry.counter(TimeZoneSingleFlight.COALESCED, "query", "getById").increment();
+            try {
+                return cached.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                throw rethrow(e.getCause());
+            } catch (TimeoutException e) {
+                meterRegistry.counter(TimeZoneSingleFlight.TIMEOUTS, "query", "getById").increment();
+                return loader.apply(id);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return loader.apply(id);
+            }
+        }
+
+        try {
+            return cached.join();
+        } catch (CompletionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    // The loader throws no checked exception
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return (RuntimeException) cause;
+    }
+
+    // Evicted once the change is visible, so that a miss cannot cache the previous row again, and first of the
+    // listeners, since the change broadcaster reads it back
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onChange(TimeZoneChange change) {
+        cache.synchronous().invalidate(change.getId());
+    }
+
+    public long size() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+}
@@ -0,0 +1,136 @@
+package com.timezones.domain.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.timezones.configuration.TimeZonesProperties;
+import com.timezones.domain.exceptions.TimeZoneIngestionNotFoundException;
+import com.timezones.domain.exceptions.TimeZoneOverloadException;
+import com.timezones.domain.model.TimeZone;
+import com.timezones.domain.model.TimeZoneIngestion;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Write-behind creation of time zones: a validated time zone is queued and its creation acknowledged right away,
+ * then the queue is drained in batches, each written in a single transaction by TimeZoneService.batch. When the database
+ * rejects a batch, its time zones are written again one by one, so that a bad row only fails its own creation.
+ * The queue is bounded, a creation is rejected when it is full rather than holding the request thread.
+ * Queued time zones only live in memory: they are written on shutdown, but lost if the process dies.
+ */
+@Component
+public class TimeZoneIngestionQueue {
+
+    private final TimeZoneService timeZoneService;
+
+    private final TimeZonesProperties properties;
+
+    private final MeterRegistry meterRegistry;
+
+    private final BlockingQueue<Map.Entry<String, TimeZone>> queue;
+
+    private final Cache<String, TimeZoneIngestion> ingestions;
+
+    public TimeZoneIngestionQueue(
+            TimeZoneService timeZoneService,
+            TimeZonesProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.timeZoneService = timeZoneService;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.queue = new ArrayBlockingQueue<>(properties.getIngestion().getQueueCapacity());
+        this.ingestions = Caffeine.newBuilder()
+                .maximumSize(properties.getIngestion().getStatusMaximumSize())
+                .expireAfterWrite(properties.getIngestion().getStatusRetention())
+                .build();
+        meterRegistry.gaugeCollectionSize("timezones.ingestion.queue.size", Tags.empty(), queue);
+    }
+
+    public boolean isEnabled() {
+        return properties.getIngestion().isEnabled();
+    }
+
+    /**
+     * Queues the creation of the time zone, and returns its pending ingestion with the id to track it.
+     */
+    public TimeZoneIngestion submit(TimeZone timeZone) throws TimeZoneOverloadException {
+        TimeZoneService.validate(timeZone);
+        TimeZoneIngestion ingestion =
+                new TimeZoneIngestion(UUID.randomUUID().toString(), TimeZoneIngestion.Status.PENDING, null, null);
+        // Tracked first, the writer may be done with it before offer returns
+        ingestions.put(ingestion.getTrackingId(), ingestion);
+        if (!queue.offer(Map.entry(ingestion.getTrackingId(), timeZone))) {
+            ingestions.invalidate(ingestion.getTrackingId());
+            meterRegistry.counter("timezones.ingestion.rejected").increment();
+            throw new TimeZoneOverloadException();
+        }
+        return ingestion;
+    }
+
+    public TimeZoneIngestion get(String trackingId) throws TimeZoneIngestionNotFoundException {
+        TimeZoneIngestion ingestion = ingestions.getIfPresent(trackingId);
+        if (ingestion == null) {
+            throw new TimeZoneIngestionNotFoundException(trackingId);
+        }
+        return ingestion;
+    }
+
+    /**
+     * Writes what was queued when the flush started, so that steady producers cannot hold the scheduler thread,
+     * shared with the other scheduled jobs. What arrives meanwhile waits for the next flush.
+     */
+    @Scheduled(fixedDelayString = "${timezones.ingestion.flush-interval}")
+    @PreDestroy
+    public void flush() {
+        int batchSize = Math.min(properties.getIngestion().getBatchSize(), properties.getBatch().getMaxSize());
+        List<Map.Entry<String, TimeZone>> batch = new ArrayList<>(batchSize);
+        int remaining = queue.size();
+        while (remaining > 0 && queue.drainTo(batch, Math.min(batchSize, remaining)) > 0) {
+            remaining -= batch.size();
+            this.write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<Map.Entry<String, TimeZone>> batch) {
+        List<TimeZone> creations = batch.stream().map(Map.Entry::getValue).toList();
+        try {
+            timeZoneService.batch(creations, List.of(), List.of());
+            batch.forEach(entry -> ingestions.put(entry.getKey(), new TimeZoneIngestion(
+                    entry.getKey(), TimeZoneIngestion.Status.CREATED, entry.getValue().getId(), null
+            )));
+            meterRegistry.counter("timezones.ingestion.written", "outcome", "created").increment(batch.size());
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                this.fail(batch.get(0), e);
+                return;
+            }
+            // The whole transaction was rolled back, the time zones that the database accepts are written alone
+            meterRegistry.counter("timezones.ingestion.retried").increment(batch.size());
+            for (Map.Entry<String, TimeZone> entry : batch) {
+                // Assigned by the rolled back persist, the time zone would otherwise be merged as an existing row
+                entry.getValue().setId(null);
+                entry.getValue().setVersion(null);
+                this.write(List.of(entry));
+            }
+        }
+    }
+
+    // The producers decide whether to send again
+    private void fail(Map.Entry<String, TimeZone> entry, RuntimeException e) {
+        ingestions.put(entry.getKey(), new TimeZoneIngestion(
+                entry.getKey(), TimeZoneIngestion.Status.FAILED, null, e.getLocalizedMessage()
+        ));
+        meterRegistry.counter("timezones.ingestion.written", "outcome", "failed").increment();
+    }
+}
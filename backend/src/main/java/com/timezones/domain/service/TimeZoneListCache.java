@@ -0,0 +1,113 @@
+package com.timezones.domain.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.timezones.api.mapper.TimeZoneMapper;
+import com.timezones.api.repository.TimeZoneRepository;
+import com.timezones.domain.model.TimeZoneChange;
+import com.timezones.domain.model.TimeZoneSerializedList;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The list of all time zones as it is sent to the clients, already serialized to JSON and gzipped, so that reading
+ * the whole list is a copy of bytes. Every change makes it stale as soon as it is published, and again once it is
+ * committed, it is then rebuilt in the background, and a read that comes first waits for the rebuild rather than
+ * getting the stale list.
+ */
+@Component
+public class TimeZoneListCache {
+
+    private final TimeZoneRepository timeZoneRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private final Executor executor;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+
+    // Not a synchronized block: the rebuild runs a query, which would pin a virtual thread
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile TimeZoneSerializedList serializedList;
+
+    public TimeZoneListCache(
+            TimeZoneRepository timeZoneRepository,
+            ObjectMapper objectMapper,
+            @Qualifier("applicationTaskExecutor") Executor executor
+    ) {
+        this.timeZoneRepository = timeZoneRepository;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+    }
+
+    // A build that started before the write, or that read the rows before the commit, is kept under a generation
+    // that is no longer the current one
+    @EventListener
+    public void onPublish(TimeZoneChange change) {
+        generation.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(TimeZoneChange change) {
+        generation.incrementAndGet();
+        // During a burst of writes a single rebuild is pending, it builds the list of the last change it sees
+        if (rebuildPending.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                rebuildPending.set(false);
+                this.get();
+            });
+        }
+    }
+
+    public TimeZoneSerializedList get() {
+        TimeZoneSerializedList current = serializedList;
+        if (current != null && current.getGeneration() == generation.get()) {
+            return current;
+        }
+
+        rebuildLock.lock();
+        try {
+            current = serializedList;
+            // Read before loading: a change committed during the load leaves the new list stale
+            long expectedGeneration = generation.get();
+            if (current == null || current.getGeneration() != expectedGeneration) {
+                current = this.build(expectedGeneration);
+                // A change published during the build is not in it: served to this read only, never cached
+                if (generation.get() == expectedGeneration) {
+                    serializedList = current;
+                }
+            }
+            return current;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private TimeZoneSerializedList build(long generation) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(
+                    timeZoneRepository.findAll().stream().map(TimeZoneMapper::toDto).toList()
+            );
+            ByteArrayOutputStream gzipped = new ByteArrayOutputStream(json.length / 8);
+            try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(gzipped)) {
+                gzipOutputStream.write(json);
+            }
+            return new TimeZoneSerializedList(generation, json, gzipped.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
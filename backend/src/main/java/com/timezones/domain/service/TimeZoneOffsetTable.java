@@ -0,0 +1,213 @@
+package com.timezones.domain.service;
+
+import com.timezones.api.repository.TimeZoneOffsetView;
+import com.timezones.api.repository.TimeZoneRepository;
+import com.timezones.configuration.TimeZonesProperties;
+import com.timezones.domain.exceptions.TimeZoneConversionSizeException;
+import com.timezones.domain.exceptions.TimeZoneNotFoundException;
+import com.timezones.domain.model.TimeZoneChange;
+import com.timezones.domain.model.TimeZoneConversions;
+import com.timezones.domain.model.TimeZoneLocalTimes;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.zone.ZoneRulesProvider;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory copy of the offset of every time zone, kept as primitive arrays sorted by id so that one instant is
+ * converted for thousands of time zones in a tight loop, without any per-zone date-time object.
+ * A time zone whose label is a tz-database id, like "Europe/Paris", follows the transitions of its zone instead of
+ * its stored offset.
+ * Every committed change makes the copy stale, it is then reloaded by the next read.
+ */
+@Component
+public class TimeZoneOffsetTable {
+
+    /**
+     * Source id of the seconds that are already an instant, ids drawn from the sequence are positive. The callers
+     * reject it as a source id given by a client.
+     */
+    public static final long UTC = -1L;
+
+    private final TimeZoneRepository timeZoneRepository;
+
+    private final TimeZonesProperties properties;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    // Copied once, the provider returns a new set on every call
+    private final Set<String> zoneIds = ZoneRulesProvider.getAvailableZoneIds();
+
+    // Shared by the time zones with the same label, and kept across reloads
+    private final Map<String, TimeZoneTransitions> transitionsByZoneId = new ConcurrentHashMap<>();
+
+    // Not a synchronized block: the reload runs a query, which would pin a virtual thread
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    public TimeZoneOffsetTable(TimeZoneRepository timeZoneRepository, TimeZonesProperties properties) {
+        this.timeZoneRepository = timeZoneRepository;
+        this.properties = properties;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(TimeZoneChange change) {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Returns the local time at the given instant of the time zones with the given ids, or of all of them.
+     */
+    public TimeZoneLocalTimes localTimesAt(Instant instant, List<Long> ids) throws TimeZoneNotFoundException {
+        Snapshot current = this.snapshot();
+        long epochSecond = instant.getEpochSecond();
+
+        if (ids == null) {
+            int[] offsetSeconds = new int[current.ids.length];
+            long[] localEpochSeconds = new long[current.ids.length];
+            for (int i = 0; i < localEpochSeconds.length; i++) {
+                offsetSeconds[i] = current.offsetAt(i, epochSecond);
+                localEpochSeconds[i] = epochSecond + offsetSeconds[i];
+            }
+            return new TimeZoneLocalTimes(current.ids, current.labels, offsetSeconds, localEpochSeconds);
+        }
+
+        long[] selectedIds = new long[ids.size()];
+        String[] labels = new String[ids.size()];
+        int[] offsetSeconds = new int[ids.size()];
+        long[] localEpochSeconds = new long[ids.size()];
+        for (int i = 0; i < selectedIds.length; i++) {
+            int index = current.indexOf(ids.get(i));
+            selectedIds[i] = current.ids[index];
+            labels[i] = current.labels[index];
+            offsetSeconds[i] = current.offsetAt(index, epochSecond);
+            localEpochSeconds[i] = epochSecond + offsetSeconds[i];
+        }
+        return new TimeZoneLocalTimes(selectedIds, labels, offsetSeconds, localEpochSeconds);
+    }
+
+    /**
+     * Converts each of the seconds to the local time of its target time zone. The seconds are an instant when their
+     * source id is {@link #UTC}, or else a local time of the source time zone, both counted from 1970-01-01T00:00:00.
+     * All the conversions use the same copy of the offsets, there is no lookup per conversion besides the binary search.
+     */
+    public TimeZoneConversions convert(long[] seconds, long[] sourceIds, long[] targetIds)
+            throws TimeZoneNotFoundException {
+        if (seconds.length > properties.getConversion().getMaxSize()) {
+            throw new TimeZoneConversionSizeException(properties.getConversion().getMaxSize());
+        }
+
+        Snapshot current = this.snapshot();
+        long[] epochSeconds = new long[seconds.length];
+        int[] offsetSeconds = new int[seconds.length];
+        long[] localEpochSeconds = new long[seconds.length];
+        for (int i = 0; i < seconds.length; i++) {
+            epochSeconds[i] = sourceIds[i] == UTC
+                    ? seconds[i]
+                    : seconds[i] - current.offsetAtLocal(current.indexOf(sourceIds[i]), seconds[i]);
+            offsetSeconds[i] = current.offsetAt(current.indexOf(targetIds[i]), epochSeconds[i]);
+            localEpochSeconds[i] = epochSeconds[i] + offsetSeconds[i];
+        }
+        return new TimeZoneConversions(epochSeconds, offsetSeconds, localEpochSeconds);
+    }
+
+    Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null && current.generation == generation.get()) {
+            return current;
+        }
+
+        reloadLock.lock();
+        try {
+            current = snapshot;
+            // Read before loading: a change committed during the load leaves the new snapshot stale
+            long expectedGeneration = generation.get();
+            if (current == null || current.generation != expectedGeneration) {
+                current = this.load(expectedGeneration);
+                snapshot = current;
+            }
+            return current;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private Snapshot load(long generation) {
+        List<TimeZoneOffsetView> timeZones = timeZoneRepository.findAllOffsets();
+        long[] ids = new long[timeZones.size()];
+        String[] labels = new String[timeZones.size()];
+        int[] offsetSeconds = new int[timeZones.size()];
+        TimeZoneTransitions[] transitions = new TimeZoneTransitions[timeZones.size()];
+        for (int i = 0; i < ids.length; i++) {
+            TimeZoneOffsetView timeZone = timeZones.get(i);
+            ids[i] = timeZone.getId();
+            labels[i] = timeZone.getLabel();
+            offsetSeconds[i] = timeZone.getOffsetFromUTC().getTotalSeconds();
+            transitions[i] = this.transitionsOf(labels[i]);
+        }
+        return new Snapshot(generation, ids, labels, offsetSeconds, transitions);
+    }
+
+    /**
+     * Returns the transitions of the tz-database zone with the given id, or null when the label is not one.
+     */
+    public TimeZoneTransitions transitionsOf(String label) {
+        if (label == null || !zoneIds.contains(label)) {
+            return null;
+        }
+        return transitionsByZoneId.computeIfAbsent(label, zoneId -> TimeZoneTransitions.of(
+                ZoneRulesProvider.getRules(zoneId, false),
+                properties.getRules().getFromYear(),
+                properties.getRules().getToYear()
+        ));
+    }
+
+    static final class Snapshot {
+
+        private final long generation;
+
+        private final long[] ids;  // Sorted, as loaded
+
+        private final String[] labels;
+
+        private final int[] offsetSeconds;  // As stored, used when there are no transitions
+
+        private final TimeZoneTransitions[] transitions;
+
+        private Snapshot(long generation, long[] ids, String[] labels, int[] offsetSeconds,
+                         TimeZoneTransitions[] transitions) {
+            this.generation = generation;
+            this.ids = ids;
+            this.labels = labels;
+            this.offsetSeconds = offsetSeconds;
+            this.transitions = transitions;
+        }
+
+        int offsetAt(int index, long epochSecond) {
+            TimeZoneTransitions zoneTransitions = transitions[index];
+            return zoneTransitions == null ? offsetSeconds[index] : zoneTransitions.offsetAt(epochSecond);
+        }
+
+        int offsetAtLocal(int index, long localEpochSecond) {
+            TimeZoneTransitions zoneTransitions = transitions[index];
+            return zoneTransitions == null ? offsetSeconds[index] : zoneTransitions.offsetAtLocal(localEpochSecond);
+        }
+
+        int indexOf(long id) throws TimeZoneNotFoundException {
+            int index = Arrays.binarySearch(ids, id);
+            if (index < 0) {
+                throw new TimeZoneNotFoundException(id);
+            }
+            return index;
+        }
+    }
+}
@@ -1,58 +1,346 @@
 package com.timezones.domain.service;
 
 import com.timezones.api.repository.TimeZoneRepository;
-import com.timezones.domain.exceptions.TimeZoneDateTimeException;
-import com.timezones.domain.exceptions.TimeZoneLabelException;
-import com.timezones.domain.exceptions.TimeZoneNotFoundException;
-import com.timezones.domain.exceptions.TimeZoneOffsetException;
+import com.timezones.api.repository.TimeZoneTombstoneRepository;
+import com.timezones.configuration.TimeZonesProperties;
+import com.timezones.domain.exceptions.*;
 import com.timezones.domain.model.TimeZone;
+import com.timezones.domain.model.TimeZoneBatchResult;
+import com.timezones.domain.model.TimeZoneChange;
+import com.timezones.domain.model.TimeZoneChangeSet;
+import com.timezones.domain.model.TimeZonePage;
+import com.timezones.domain.model.TimeZoneSnapshot;
+import com.timezones.domain.model.TimeZoneTombstone;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
+@Timed(value = "timezones.service", histogram = true)
+@Counted(value = "timezones.service.failures", recordFailuresOnly = true)
 public class TimeZoneService {
 
     private final TimeZoneRepository timeZoneRepository;
 
-    public TimeZoneService(TimeZoneRepository timeZoneRepository) {
+    private final TimeZonesProperties properties;
+
+    private final EntityManager entityManager;
+
+    private final TimeZoneCache timeZoneCache;
+
+    private final TimeZoneSingleFlight singleFlight;
+
+    private final TimeZoneTombstoneRepository timeZoneTombstoneRepository;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TimeZoneService(
+            TimeZoneRepository timeZoneRepository,
+            TimeZonesProperties properties,
+            EntityManager entityManager,
+            TimeZoneCache timeZoneCache,
+            TimeZoneSingleFlight singleFlight,
+            TimeZoneTombstoneRepository timeZoneTombstoneRepository,
+            ApplicationEventPublisher eventPublisher
+    ) {
         this.timeZoneRepository = timeZoneRepository;
+        this.properties = properties;
+        this.entityManager = entityManager;
+        this.timeZoneCache = timeZoneCache;
+        this.singleFlight = singleFlight;
+        this.timeZoneTombstoneRepository = timeZoneTombstoneRepository;
+        this.eventPublisher = eventPublisher;
     }
 
-    public List<TimeZone> getAll() {
-        return timeZoneRepository.findAll();
+    /**
+     * Concurrent calls share a single query, so its result is copied into immutable snapshots rather than handing out
+     * entities of the persistence context of the first caller.
+     */
+    public List<TimeZoneSnapshot> getAll() {
+        return singleFlight.load(
+                "getAll",
+                null,
+                () -> timeZoneRepository.findAll().stream().map(TimeZoneSnapshot::new).toList()
+        );
     }
 
-    public TimeZone getById(Long id) throws TimeZoneNotFoundException {
-        return timeZoneRepository.findById(id).orElseThrow(() -> new TimeZoneNotFoundException(id));
+    public TimeZonePage getPage(String cursor, Integer size, boolean withTotal) {
+        int pageSize = this.resolvePageSize(size);
+        long afterId = cursor == null ? 0L : decodeCursor(cursor);
+
+        // Fetch one extra row to know whether a next page exists without counting
+        List<TimeZone> timeZones =
+                timeZoneRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(pageSize + 1));
+        String next = null;
+        if (timeZones.size() > pageSize) {
+            timeZones = timeZones.subList(0, pageSize);
+            next = encodeCursor(timeZones.get(pageSize - 1).getId());
+        }
+
+        return new TimeZonePage(timeZones, next, withTotal ? timeZoneRepository.count() : null);
+    }
+
+    public List<TimeZone> getByLabel(String label, boolean prefix) {
+        if (label == null || label.isEmpty()) {
+            throw new TimeZoneLabelException();
+        }
+
+        return prefix
+                ? timeZoneRepository.findByLabelStartingWithOrderByLabelAscIdAsc(label)
+                : timeZoneRepository.findByLabelOrderByIdAsc(label);
+    }
+
+    public List<TimeZone> getByOffset(ZoneOffset offsetFromUTC) {
+        if (offsetFromUTC == null) {
+            throw new TimeZoneOffsetException();
+        }
+
+        return timeZoneRepository.findByOffsetFromUTCOrderByIdAsc(offsetFromUTC);
+    }
+
+    public List<TimeZone> getByDateTimeRange(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null) {
+            throw new TimeZoneDateTimeException();
+        }
+
+        if (from.isAfter(to)) {
+            throw new TimeZoneDateTimeRangeException();
+        }
+
+        return timeZoneRepository.findByDateTimeBetweenOrderByDateTimeAscIdAsc(from, to);
+    }
+
+    /**
+     * Returns what changed since the watermark of the previous call, or everything when there is none.
+     * The next watermark lags behind by a safety margin: a write still in flight may commit with an earlier
+     * updatedAt than rows already visible, so recent changes are sent again rather than missed.
+     */
+    @Transactional(readOnly = true)
+    public TimeZoneChangeSet getChangesSince(LocalDateTime since) {
+        LocalDateTime now = LocalDateTime.now();
+        if (since != null && since.isBefore(now.minus(properties.getChanges().getTombstoneRetention()))) {
+            throw new TimeZoneWatermarkExpiredException();
+        }
+
+        LocalDateTime watermark = now.minus(properties.getChanges().getSafetyMargin());
+        if (since == null) {
+            return new TimeZoneChangeSet(timeZoneRepository.findAll(), List.of(), watermark);
+        }
+
+        return new TimeZoneChangeSet(
+                timeZoneRepository.findByUpdatedAtAfterOrderByUpdatedAtAscIdAsc(since),
+                timeZoneTombstoneRepository.findIdsDeletedAfter(since),
+                watermark.isAfter(since) ? watermark : since
+        );
+    }
+
+    @Scheduled(fixedDelayString = "${timezones.changes.purge-interval}")
+    @Transactional
+    public void purgeTombstones() {
+        timeZoneTombstoneRepository.purgeDeletedBefore(
+                LocalDateTime.now().minus(properties.getChanges().getTombstoneRetention())
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<TimeZone> consumer) {
+        try (Stream<TimeZone> timeZones = timeZoneRepository.streamAll()) {
+            timeZones.forEach(timeZone -> {
+                consumer.accept(timeZone);
+                // Keep the persistence context empty so memory stays flat whatever the table size
+                entityManager.detach(timeZone);
+            });
+        }
+    }
+
+    public TimeZoneSnapshot getById(Long id) throws TimeZoneNotFoundException {
+        // Concurrent misses for the same id, right after a deploy or an eviction, share a single query
+        TimeZoneSnapshot timeZone = timeZoneCache.get(
+                id,
+                key -> timeZoneRepository.findById(key).map(TimeZoneSnapshot::new).orElse(null)
+        );
+        if (timeZone == null) {
+            throw new TimeZoneNotFoundException(id);
+        }
+        return timeZone;
     }
 
     public void create(TimeZone timeZone) {
-        this.validate(timeZone);
+        validate(timeZone);
         LocalDateTime now = LocalDateTime.now();
         timeZone.setCreatedAt(now);
         timeZone.setUpdatedAt(now);
         timeZoneRepository.save(timeZone);
+        eventPublisher.publishEvent(new TimeZoneChange(TimeZoneChange.Type.CREATED, timeZone.getId(), timeZone));
     }
 
-    public void update(Long id, TimeZone timeZone) throws TimeZoneNotFoundException {
-        this.validate(timeZone);
-        TimeZone timeZoneFromDb = timeZoneRepository.findById(id).orElseThrow(() -> new TimeZoneNotFoundException(id));
-        timeZoneFromDb.setLabel(timeZone.getLabel());
-        timeZoneFromDb.setDateTime(timeZone.getDateTime());
-        timeZoneFromDb.setOffsetFromUTC(timeZone.getOffsetFromUTC());
-        timeZoneFromDb.setUpdatedAt(LocalDateTime.now());
-        timeZoneFromDb.setCreatedAt(timeZone.getCreatedAt());
-        timeZoneRepository.save(timeZone);
+    /**
+     * Applies all operations in a single transaction. Created time zones get their id assigned in place,
+     * updates and deletions of unknown ids are reported instead of failing the whole batch.
+     */
+    @Transactional
+    public TimeZoneBatchResult batch(List<TimeZone> creations, List<TimeZone> updates, List<Long> deletions) {
+        int operations = creations.size() + updates.size() + deletions.size();
+        if (operations > properties.getBatch().getMaxSize()) {
+            throw new TimeZoneBatchSizeException(properties.getBatch().getMaxSize());
+        }
+        creations.forEach(TimeZoneService::validate);
+        updates.forEach(TimeZoneService::validate);
+
+        LocalDateTime now = LocalDateTime.now();
+        int flushSize = properties.getBatch().getFlushSize();
+        for (int i = 0; i < creations.size(); i++) {
+            TimeZone timeZone = creations.get(i);
+            timeZone.setCreatedAt(now);
+            timeZone.setUpdatedAt(now);
+            timeZoneRepository.save(timeZone);
+            // Flush by JDBC batch and release the persistence context so large batches stay in bounded memory
+            if ((i + 1) % flushSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        Set<Long> updatesNotFound = new HashSet<>();
+        if (!updates.isEmpty()) {
+            Map<Long, TimeZone> timeZonesFromDb = new HashMap<>();
+            timeZoneRepository.findAllById(updates.stream().map(TimeZone::getId).toList())
+                    .forEach(timeZoneFromDb -> timeZonesFromDb.put(timeZoneFromDb.getId(), timeZoneFromDb));
+            for (TimeZone timeZone : updates) {
+                TimeZone timeZoneFromDb = timeZonesFromDb.get(timeZone.getId());
+                if (timeZoneFromDb == null) {
+                    updatesNotFound.add(timeZone.getId());
+                    continue;
+                }
+                timeZoneFromDb.setLabel(timeZone.getLabel());
+                timeZoneFromDb.setDateTime(timeZone.getDateTime());
+                timeZoneFromDb.setOffsetFromUTC(timeZone.getOffsetFromUTC());
+                timeZoneFromDb.setUpdatedAt(now);
+            }
+        }
+
+        Set<Long> deletionsNotFound = new HashSet<>();
+        if (!deletions.isEmpty()) {
+            Set<Long> existingIds = new HashSet<>(timeZoneRepository.findExistingIds(deletions));
+            deletions.stream().filter(id -> !existingIds.contains(id)).forEach(deletionsNotFound::add);
+            if (!existingIds.isEmpty()) {
+                timeZoneRepository.deleteByIds(existingIds);
+                timeZoneTombstoneRepository.saveAll(
+                        existingIds.stream().map(id -> new TimeZoneTombstone(id, now)).toList()
+                );
+            }
+            existingIds.forEach(id -> eventPublisher.publishEvent(
+                    new TimeZoneChange(TimeZoneChange.Type.DELETED, id, null)
+            ));
+        }
+
+        creations.forEach(timeZone -> eventPublisher.publishEvent(
+                new TimeZoneChange(TimeZoneChange.Type.CREATED, timeZone.getId(), timeZone)
+        ));
+        updates.stream()
+                .filter(timeZone -> !updatesNotFound.contains(timeZone.getId()))
+                .forEach(timeZone -> eventPublisher.publishEvent(
+                        new TimeZoneChange(TimeZoneChange.Type.UPDATED, timeZone.getId(), null)
+                ));
+
+        return new TimeZoneBatchResult(updatesNotFound, deletionsNotFound);
+    }
+
+    /**
+     * Updates the time zone only if its version is still one of the expected ones, whatever the version when they are
+     * null. None of the versions matches when there are none.
+     */
+    @Transactional
+    public void update(Long id, TimeZone timeZone, Collection<Long> expectedVersions)
+            throws TimeZoneNotFoundException, TimeZoneVersionException {
+        validate(timeZone);
+        LocalDateTime now = LocalDateTime.now();
+        int updated;
+        if (expectedVersions == null) {
+            updated = timeZoneRepository.updateById(
+                    id, timeZone.getLabel(), timeZone.getDateTime(), timeZone.getOffsetFromUTC(), now
+            );
+        } else if (expectedVersions.isEmpty()) {
+            updated = 0;
+        } else {
+            updated = timeZoneRepository.updateByIdAndVersionIn(
+                    id, expectedVersions, timeZone.getLabel(), timeZone.getDateTime(), timeZone.getOffsetFromUTC(), now
+            );
+        }
+        if (updated == 0) {
+            this.throwNotFoundOrVersionMismatch(id, expectedVersions);
+        }
+        eventPublisher.publishEvent(new TimeZoneChange(TimeZoneChange.Type.UPDATED, id, null));
+    }
+
+    @Transactional
+    public void delete(Long id, Collection<Long> expectedVersions)
+            throws TimeZoneNotFoundException, TimeZoneVersionException {
+        int deleted;
+        if (expectedVersions == null) {
+            deleted = timeZoneRepository.deleteOneById(id);
+        } else if (expectedVersions.isEmpty()) {
+            deleted = 0;
+        } else {
+            deleted = timeZoneRepository.deleteByIdAndVersionIn(id, expectedVersions);
+        }
+        if (deleted == 0) {
+            this.throwNotFoundOrVersionMismatch(id, expectedVersions);
+        }
+        timeZoneTombstoneRepository.save(new TimeZoneTombstone(id, LocalDateTime.now()));
+        eventPublisher.publishEvent(new TimeZoneChange(TimeZoneChange.Type.DELETED, id, null));
+    }
+
+    // Only reached when nothing was written, the extra lookup stays off the successful path
+    private void throwNotFoundOrVersionMismatch(Long id, Collection<Long> expectedVersions)
+            throws TimeZoneNotFoundException, TimeZoneVersionException {
+        if (expectedVersions != null && timeZoneRepository.existsById(id)) {
+            throw new TimeZoneVersionException(id);
+        }
+        throw new TimeZoneNotFoundException(id);
     }
 
-    public void delete(Long id) throws TimeZoneNotFoundException {
-        timeZoneRepository.findById(id).orElseThrow(() -> new TimeZoneNotFoundException(id));
-        timeZoneRepository.deleteById(id);
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return properties.getPagination().getDefaultSize();
+        }
+
+        if (size < 1) {
+            throw new TimeZonePageSizeException();
+        }
+
+        return Math.min(size, properties.getPagination().getMaxSize());
+    }
+
+    private static String encodeCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static long decodeCursor(String cursor) {
+        try {
+            long id = Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII));
+            if (id < 0) {
+                throw new TimeZoneCursorException();
+            }
+            return id;
+        } catch (IllegalArgumentException e) {
+            throw new TimeZoneCursorException();
+        }
     }
 
-    private void validate(TimeZone timeZone) {
+    static void validate(TimeZone timeZone) {
         if (timeZone.getLabel() == null || timeZone.getLabel().isEmpty()) {
             throw new TimeZoneLabelException();
         }
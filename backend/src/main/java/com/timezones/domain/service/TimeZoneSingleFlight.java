@@ -0,0 +1,94 @@
+package com.timezones.domain.service;
+
+import com.timezones.configuration.TimeZonesProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Lets concurrent identical reads share a single load: the first caller runs it, the ones arriving meanwhile wait
+ * for its result instead of sending the same query, and the load is forgotten as soon as it is done.
+ * The result is shared between the callers and must be treated as read-only.
+ * A caller that waited longer than the configured timeout runs the load on its own, so that a stuck load does not
+ * hold every caller. A zero timeout turns the coalescing off.
+ */
+@Component
+public class TimeZoneSingleFlight {
+
+    public static final String COALESCED = "timezones.service.coalesced";
+
+    public static final String TIMEOUTS = "timezones.service.coalesced.timeouts";
+
+    private final TimeZonesProperties properties;
+
+    private final MeterRegistry meterRegistry;
+
+    // Keyed by the query and its argument
+    private final Map<List<Object>, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public TimeZoneSingleFlight(TimeZonesProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gaugeMapSize("timezones.service.in.flight.loads", Tags.empty(), inFlight);
+    }
+
+    /**
+     * Returns the result of the load in flight for the same query and argument, or else runs the given one.
+     */
+    @SuppressWarnings("unchecked")
+    public <T, E extends Exception> T load(String query, Object argument, Loader<T, E> loader) throws E {
+        if (properties.getSingleFlight().getTimeout().isZero()) {
+            return loader.load();
+        }
+
+        List<Object> key = Arrays.asList(query, argument);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existingFlight = inFlight.putIfAbsent(key, flight);
+        if (existingFlight != null) {
+            meterRegistry.counter(COALESCED, "query", query).increment();
+            try {
+                return (T) existingFlight.get(properties.getSingleFlight().getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                // The loads of a query all throw the same exceptions
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw (E) e.getCause();
+            } catch (TimeoutException e) {
+                meterRegistry.counter(TIMEOUTS, "query", query).increment();
+                return loader.load();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return loader.load();
+            }
+        }
+
+        // Forgotten before it is completed, a caller coming after the load must not get its result
+        T value;
+        try {
+            value = loader.load();
+        } catch (Throwable t) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(t);
+            throw t;
+        }
+        inFlight.remove(key, flight);
+        flight.complete(value);
+        return value;
+    }
+
+    @FunctionalInterface
+    public interface Loader<T, E extends Exception> {
+
+        T load() throws E;
+    }
+}
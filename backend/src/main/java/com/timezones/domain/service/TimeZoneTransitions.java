@@ -0,0 +1,97 @@
+package com.timezones.domain.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+
+/**
+ * Offset transitions of a tz-database zone within a window of years, as sorted primitive arrays, so that the offset
+ * at an instant or at a local time is a binary search instead of a lookup in the {@link ZoneRules}.
+ * Outside the window the rules are queried directly.
+ */
+public final class TimeZoneTransitions {
+
+    private final ZoneRules rules;
+
+    private final long windowStart;
+
+    private final long windowEnd;
+
+    private final long[] epochSeconds;  // Instants of the transitions, sorted
+
+    private final long[] localEpochSeconds;  // First local time using the offset after each transition, sorted
+
+    private final int[] offsetSeconds;  // Offset before the first transition, then after each of them
+
+    private TimeZoneTransitions(ZoneRules rules, long windowStart, long windowEnd, long[] epochSeconds,
+                                long[] localEpochSeconds, int[] offsetSeconds) {
+        this.rules = rules;
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+        this.epochSeconds = epochSeconds;
+        this.localEpochSeconds = localEpochSeconds;
+        this.offsetSeconds = offsetSeconds;
+    }
+
+    /**
+     * Precomputes the transitions of the rules from the start of the first year to the end of the last one, in UTC.
+     */
+    public static TimeZoneTransitions of(ZoneRules rules, int fromYear, int toYear) {
+        long windowStart = LocalDateTime.of(fromYear, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        long windowEnd = LocalDateTime.of(toYear + 1, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+
+        long[] epochSeconds = new long[16];
+        int[] offsetSeconds = new int[17];
+        offsetSeconds[0] = rules.getOffset(Instant.ofEpochSecond(windowStart)).getTotalSeconds();
+        int size = 0;
+        ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochSecond(windowStart));
+        while (transition != null && transition.toEpochSecond() < windowEnd) {
+            if (size == epochSeconds.length) {
+                epochSeconds = Arrays.copyOf(epochSeconds, size * 2);
+                offsetSeconds = Arrays.copyOf(offsetSeconds, size * 2 + 1);
+            }
+            epochSeconds[size] = transition.toEpochSecond();
+            offsetSeconds[size + 1] = transition.getOffsetAfter().getTotalSeconds();
+            size++;
+            transition = rules.nextTransition(transition.getInstant());
+        }
+
+        // A local time in a gap or an overlap keeps the offset before the transition, as ZonedDateTime.ofLocal does
+        long[] localEpochSeconds = new long[size];
+        for (int i = 0; i < size; i++) {
+            localEpochSeconds[i] = epochSeconds[i] + Math.max(offsetSeconds[i], offsetSeconds[i + 1]);
+        }
+        return new TimeZoneTransitions(rules, windowStart, windowEnd, Arrays.copyOf(epochSeconds, size),
+                localEpochSeconds, Arrays.copyOf(offsetSeconds, size + 1));
+    }
+
+    public int offsetAt(long epochSecond) {
+        if (epochSecond < windowStart || epochSecond >= windowEnd) {
+            return rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+        }
+        return offsetSeconds[transitionsUpTo(epochSeconds, epochSecond)];
+    }
+
+    /**
+     * Returns the offset of the given local time, counted in seconds from 1970-01-01T00:00:00.
+     */
+    public int offsetAtLocal(long localEpochSecond) {
+        // Offsets stay within a day, the window is widened by one day to stay inside it on both sides
+        if (localEpochSecond < windowStart + 86400 || localEpochSecond >= windowEnd - 86400) {
+            return rules.getOffset(LocalDateTime.ofEpochSecond(localEpochSecond, 0, ZoneOffset.UTC)).getTotalSeconds();
+        }
+        return offsetSeconds[transitionsUpTo(localEpochSeconds, localEpochSecond)];
+    }
+
+    public int size() {
+        return epochSeconds.length;
+    }
+
+    private static int transitionsUpTo(long[] seconds, long second) {
+        int index = Arrays.binarySearch(seconds, second);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+}
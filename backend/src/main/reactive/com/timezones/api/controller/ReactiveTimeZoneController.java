@@ -0,0 +1,67 @@
+package com.timezones.api.controller;
+
+import com.timezones.api.dto.PartialTimeZoneDto;
+import com.timezones.api.dto.TimeZoneDto;
+import com.timezones.api.mapper.TimeZoneMapper;
+import com.timezones.domain.exceptions.TimeZoneValidationException;
+import com.timezones.domain.service.ReactiveTimeZoneService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unitary operations of {@link TimeZoneController}, served by WebFlux on top of R2DBC when the "reactive" profile is
+ * active. The list is never paginated, and the export, batch, search, ETag and problem details are not served.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/timezones")
+public class ReactiveTimeZoneController {
+
+    private final ReactiveTimeZoneService reactiveTimeZoneService;
+
+    public ReactiveTimeZoneController(ReactiveTimeZoneService reactiveTimeZoneService) {
+        this.reactiveTimeZoneService = reactiveTimeZoneService;
+    }
+
+    @GetMapping
+    public Flux<TimeZoneDto> getAllTimeZones() {
+        return reactiveTimeZoneService.getAll().map(TimeZoneMapper::toDto);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<?>> getById(@PathVariable Long id) {
+        return reactiveTimeZoneService.getById(id)
+                .<ResponseEntity<?>>map(timeZone -> new ResponseEntity<>(TimeZoneMapper.toDto(timeZone), HttpStatus.OK))
+                .onErrorResume(e -> Mono.just(new ResponseEntity<>(e.getLocalizedMessage(), HttpStatus.NOT_FOUND)));
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<String>> create(@RequestBody PartialTimeZoneDto partialTimeZoneDto) {
+        return Mono.fromCallable(() -> TimeZoneMapper.toEntity(partialTimeZoneDto))
+                .flatMap(reactiveTimeZoneService::create)
+                .map(timeZone -> new ResponseEntity<>("Time zone created successfully", HttpStatus.CREATED))
+                .onErrorResume(e -> Mono.just(new ResponseEntity<>(e.getLocalizedMessage(), HttpStatus.BAD_REQUEST)));
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<String>> update(@PathVariable Long id, @RequestBody PartialTimeZoneDto partialTimeZoneDto) {
+        return Mono.fromCallable(() -> TimeZoneMapper.toEntity(partialTimeZoneDto))
+                .flatMap(timeZone -> reactiveTimeZoneService.update(id, timeZone))
+                .thenReturn(new ResponseEntity<>("Time zone updated successfully", HttpStatus.NO_CONTENT))
+                .onErrorResume(e -> Mono.just(new ResponseEntity<>(
+                        e.getLocalizedMessage(),
+                        e instanceof TimeZoneValidationException ? HttpStatus.BAD_REQUEST : HttpStatus.NOT_FOUND
+                )));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<String>> delete(@PathVariable Long id) {
+        return reactiveTimeZoneService.delete(id)
+                .thenReturn(new ResponseEntity<>("Time zone deleted successfully", HttpStatus.NO_CONTENT))
+                .onErrorResume(e -> Mono.just(new ResponseEntity<>(e.getLocalizedMessage(), HttpStatus.NOT_FOUND)));
+    }
+}
@@ -0,0 +1,158 @@
+package com.timezones.api.repository;
+
+import com.timezones.configuration.TimeZonesProperties;
+import com.timezones.domain.model.TimeZone;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Non-blocking access to the time zone table for the reactive variant of the API.
+ * The connection pool is deliberately not exposed as a bean: a ConnectionFactory bean would make Spring Boot
+ * back off from the JDBC DataSource that JPA and the schema management still rely on.
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTimeZoneRepository implements DisposableBean {
+
+    private static final String COLUMNS = "id, label, date_time, offset_fromutc, created_at, updated_at";
+
+    private final ConnectionPool connectionPool;
+
+    private final DatabaseClient databaseClient;
+
+    private final TransactionalOperator transactionalOperator;
+
+    // Remaining ids of the last block drawn from the sequence
+    private long nextId;
+
+    private long lastId = -1;
+
+    public ReactiveTimeZoneRepository(TimeZonesProperties properties) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(properties.getR2dbc().getUrl()).mutate()
+                .option(ConnectionFactoryOptions.USER, properties.getR2dbc().getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, properties.getR2dbc().getPassword())
+                .build();
+        this.connectionPool = new ConnectionPool(
+                ConnectionPoolConfiguration.builder(ConnectionFactories.get(options)).build()
+        );
+        this.databaseClient = DatabaseClient.create(connectionPool);
+        this.transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(connectionPool));
+    }
+
+    public Flux<TimeZone> findAll() {
+        return databaseClient.sql("select " + COLUMNS + " from time_zone order by id")
+                .map(ReactiveTimeZoneRepository::toTimeZone)
+                .all();
+    }
+
+    public Mono<TimeZone> findById(Long id) {
+        return databaseClient.sql("select " + COLUMNS + " from time_zone where id = :id")
+                .bind("id", id)
+                .map(ReactiveTimeZoneRepository::toTimeZone)
+                .one();
+    }
+
+    public Mono<TimeZone> insert(TimeZone timeZone) {
+        return this.nextId()
+                .flatMap(id -> databaseClient.sql("insert into time_zone (" + COLUMNS + ", version) "
+                                + "values (:id, :label, :dateTime, :offset, :createdAt, :updatedAt, 0)")
+                        .bind("id", id)
+                        .bind("label", timeZone.getLabel())
+                        .bind("dateTime", timeZone.getDateTime())
+                        .bind("offset", timeZone.getOffsetFromUTC().getId())
+                        .bind("createdAt", timeZone.getCreatedAt())
+                        .bind("updatedAt", timeZone.getUpdatedAt())
+                        .fetch()
+                        .rowsUpdated()
+                        .map(rowsUpdated -> {
+                            timeZone.setId(id);
+                            return timeZone;
+                        }));
+    }
+
+    public Mono<Long> update(Long id, TimeZone timeZone) {
+        return databaseClient.sql("update time_zone set label = :label, date_time = :dateTime, "
+                        + "offset_fromutc = :offset, updated_at = :updatedAt, version = version + 1 where id = :id")
+                .bind("id", id)
+                .bind("label", timeZone.getLabel())
+                .bind("dateTime", timeZone.getDateTime())
+                .bind("offset", timeZone.getOffsetFromUTC().getId())
+                .bind("updatedAt", timeZone.getUpdatedAt())
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Deletes the time zone and leaves a tombstone for the change feed, in the same transaction.
+     */
+    public Mono<Long> deleteById(Long id, LocalDateTime deletedAt) {
+        return databaseClient.sql("delete from time_zone where id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(rowsDeleted -> rowsDeleted == 0
+                        ? Mono.just(rowsDeleted)
+                        : databaseClient.sql("insert into time_zone_tombstone (id, deleted_at) values (:id, :deletedAt)")
+                                .bind("id", id)
+                                .bind("deletedAt", deletedAt)
+                                .fetch()
+                                .rowsUpdated()
+                                .thenReturn(rowsDeleted))
+                .as(transactionalOperator::transactional);
+    }
+
+    /**
+     * Hands out ids as Hibernate's pooled optimizer does, so that both stacks share the sequence without collisions:
+     * a drawn value stands for the block of ids that ends with it, or for itself alone when it is the initial value.
+     */
+    private Mono<Long> nextId() {
+        synchronized (this) {
+            if (nextId <= lastId) {
+                return Mono.just(nextId++);
+            }
+        }
+        return databaseClient.sql("select next value for time_zone_seq")
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .map(hi -> {
+                    long lo = hi == 1 ? hi : hi - TimeZone.ID_ALLOCATION_SIZE + 1;
+                    synchronized (this) {
+                        // A concurrent draw may replace the block, its remaining ids are only skipped
+                        nextId = lo + 1;
+                        lastId = hi;
+                    }
+                    return lo;
+                });
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+
+    private static TimeZone toTimeZone(Readable row) {
+        TimeZone timeZone = new TimeZone(
+                row.get("label", String.class),
+                row.get("date_time", LocalDateTime.class),
+                ZoneOffset.of(row.get("offset_fromutc", String.class)),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class)
+        );
+        timeZone.setId(row.get("id", Long.class));
+        return timeZone;
+    }
+}
@@ -0,0 +1,54 @@
+package com.timezones.domain.service;
+
+import com.timezones.api.repository.ReactiveTimeZoneRepository;
+import com.timezones.domain.exceptions.TimeZoneNotFoundException;
+import com.timezones.domain.model.TimeZone;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTimeZoneService {
+
+    private final ReactiveTimeZoneRepository reactiveTimeZoneRepository;
+
+    public ReactiveTimeZoneService(ReactiveTimeZoneRepository reactiveTimeZoneRepository) {
+        this.reactiveTimeZoneRepository = reactiveTimeZoneRepository;
+    }
+
+    public Flux<TimeZone> getAll() {
+        return reactiveTimeZoneRepository.findAll();
+    }
+
+    public Mono<TimeZone> getById(Long id) {
+        return reactiveTimeZoneRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new TimeZoneNotFoundException(id)));
+    }
+
+    public Mono<TimeZone> create(TimeZone timeZone) {
+        return Mono.defer(() -> {
+            TimeZoneService.validate(timeZone);
+            LocalDateTime now = LocalDateTime.now();
+            timeZone.setCreatedAt(now);
+            timeZone.setUpdatedAt(now);
+            return reactiveTimeZoneRepository.insert(timeZone);
+        });
+    }
+
+    public Mono<Void> update(Long id, TimeZone timeZone) {
+        return Mono.defer(() -> {
+            TimeZoneService.validate(timeZone);
+            timeZone.setUpdatedAt(LocalDateTime.now());
+            return reactiveTimeZoneRepository.update(id, timeZone);
+        }).flatMap(rowsUpdated -> rowsUpdated == 0 ? Mono.error(new TimeZoneNotFoundException(id)) : Mono.empty());
+    }
+
+    public Mono<Void> delete(Long id) {
+        return Mono.defer(() -> reactiveTimeZoneRepository.deleteById(id, LocalDateTime.now()))
+                .flatMap(rowsDeleted -> rowsDeleted == 0 ? Mono.error(new TimeZoneNotFoundException(id)) : Mono.empty());
+    }
+}
@@ -0,0 +1,25 @@
+create sequence time_zone_seq start with 1 increment by 50;
+
+create table time_zone (
+    id bigint not null,
+    label varchar(255),
+    date_time timestamp(6),
+    offset_fromutc varchar(6),
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    version bigint default 0 not null,
+    primary key (id)
+);
+
+create index idx_time_zone_label on time_zone (label);
+create index idx_time_zone_offset on time_zone (offset_fromutc);
+create index idx_time_zone_date_time on time_zone (date_time);
+create index idx_time_zone_updated_at on time_zone (updated_at);
+
+create table time_zone_tombstone (
+    id bigint not null,
+    deleted_at timestamp(6),
+    primary key (id)
+);
+
+create index idx_time_zone_tombstone_deleted_at on time_zone_tombstone (deleted_at);
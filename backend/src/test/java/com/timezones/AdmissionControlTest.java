@@ -0,0 +1,160 @@
+package com.timezones;
+
+import com.timezones.api.admission.TimeZoneAdmissionInterceptor;
+import com.timezones.api.admission.TimeZoneConcurrencyLimiter;
+import com.timezones.configuration.TimeZonesProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "timezones.admission.client-header=X-Client-Id",
+        "timezones.admission.endpoints[TimeZoneController#getById].capacity=2",
+        "timezones.admission.endpoints[TimeZoneController#getById].refill-per-second=1",
+        "timezones.admission.max-concurrent-exports=1",
+        "timezones.admission.concurrency.initial-limit=1",
+        "timezones.admission.concurrency.min-limit=1"
+})
+@AutoConfigureMockMvc
+class AdmissionControlTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TimeZoneConcurrencyLimiter concurrencyLimiter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TimeZonesProperties properties;
+
+    @Test
+    void whenClientExceedsRateLimitOfEndpoint_thenRejectOnlyThisClientOnThisEndpoint() throws Exception {
+        // Given
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/timezones/999").header("X-Client-Id", "storm"))
+                    .andExpect(status().isNotFound());
+        }
+
+        // When and Then
+        mockMvc.perform(get("/api/timezones/999").header("X-Client-Id", "storm"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("$.detail").value("Too many requests on this endpoint, retry in 1 seconds"));
+        mockMvc.perform(get("/api/timezones/999").header("X-Client-Id", "other"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/timezones").header("X-Client-Id", "storm"))
+                .andExpect(status().isOk());
+        assertEquals(1, meterRegistry.counter(
+                TimeZoneAdmissionInterceptor.REJECTED, "reason", "rate-limit", "method", "GET", "uri", "/api/timezones/{id}"
+        ).count());
+    }
+
+    @Test
+    void whenAdmissionIsDisabledAtRuntime_thenAdmitEveryRequest() throws Exception {
+        // Given
+        assertTrue(concurrencyLimiter.tryAcquire());
+        properties.getAdmission().setEnabled(false);
+
+        try {
+            // When and Then
+            for (int i = 0; i < 3; i++) {
+                mockMvc.perform(get("/api/timezones/999").header("X-Client-Id", "disabled"))
+                        .andExpect(status().isNotFound());
+            }
+        } finally {
+            properties.getAdmission().setEnabled(true);
+            concurrencyLimiter.release(0);
+        }
+    }
+
+    @Test
+    void whenConcurrencyLimitIsReached_thenShedLoad() throws Exception {
+        // Given
+        assertTrue(concurrencyLimiter.tryAcquire());
+
+        try {
+            // When and Then
+            mockMvc.perform(get("/api/timezones"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        } finally {
+            concurrencyLimiter.release(0);
+        }
+        mockMvc.perform(get("/api/timezones")).andExpect(status().isOk());
+        assertEquals(0, concurrencyLimiter.inFlight());
+    }
+
+    @Test
+    void whenExportIsStreaming_thenHoldItsPermitUntilTheResponseCompletes() throws Exception {
+        // Given
+        MvcResult export = mockMvc.perform(get("/api/timezones/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When and Then
+        mockMvc.perform(get("/api/timezones/export"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        mockMvc.perform(get("/api/timezones")).andExpect(status().isOk());
+        mockMvc.perform(asyncDispatch(export)).andExpect(status().isOk());
+        MvcResult nextExport = mockMvc.perform(get("/api/timezones/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(nextExport)).andExpect(status().isOk());
+        assertEquals(1, meterRegistry.counter(
+                TimeZoneAdmissionInterceptor.REJECTED, "reason", "exports", "method", "GET", "uri", "/api/timezones/export"
+        ).count());
+    }
+
+    @Test
+    void whenRequestsAreSlowOrFast_thenAdaptConcurrencyLimit() {
+        // Given
+        TimeZonesProperties limiterProperties = new TimeZonesProperties();
+        limiterProperties.getAdmission().getConcurrency().setInitialLimit(20);
+        TimeZoneConcurrencyLimiter limiter = new TimeZoneConcurrencyLimiter(limiterProperties, new SimpleMeterRegistry());
+        for (int i = 0; i < 20; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        assertFalse(limiter.tryAcquire());
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            limiter.release(Duration.ofSeconds(1).toNanos());
+        }
+
+        // Then
+        assertEquals(18, limiter.limit(), 0.001);  // Once for the whole burst
+        for (int i = 0; i < 18; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        for (int i = 0; i < 18; i++) {
+            limiter.release(Duration.ofSeconds(1).toNanos());
+        }
+        assertEquals(16.2, limiter.limit(), 0.001);  // Once more for the next round
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        for (int i = 0; i < 10; i++) {
+            limiter.release(Duration.ofMillis(1).toNanos());
+        }
+        assertTrue(limiter.limit() > 16.2);
+    }
+}
@@ -0,0 +1,174 @@
+package com.timezones;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.timezones.configuration.TimeZonesProperties;
+import com.timezones.domain.model.TimeZone;
+import com.timezones.domain.model.TimeZoneBatchResult;
+import com.timezones.domain.service.TimeZoneIngestionQueue;
+import com.timezones.domain.service.TimeZoneService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Flushed by hand, the scheduled writer is pushed back by an hour
+@SpringBootTest(properties = {
+        "timezones.ingestion.enabled=true",
+        "timezones.ingestion.queue-capacity=2",
+        "timezones.ingestion.flush-interval=PT1H"
+})
+@AutoConfigureMockMvc
+class AsyncIngestionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TimeZoneIngestionQueue timeZoneIngestionQueue;
+
+    @BeforeEach
+    void setUp() {
+        timeZoneIngestionQueue.flush();
+    }
+
+    @Test
+    void whenTimeZoneIsQueued_thenAcceptItAndCreateItOnFlush() throws Exception {
+        // Given
+        MvcResult result = mockMvc.perform(create("Europe/Paris"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andExpect(jsonPath("$.id").doesNotExist())
+                .andReturn();
+        String trackingId = objectMapper.readTree(result.getResponse().getContentAsString()).get("trackingId").asText();
+        assertEquals("/api/timezones/ingestions/" + trackingId, result.getResponse().getHeader(HttpHeaders.LOCATION));
+        mockMvc.perform(get("/api/timezones/ingestions/" + trackingId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PENDING"));
+
+        // When
+        timeZoneIngestionQueue.flush();
+
+        // Then
+        JsonNode ingestion = objectMapper.readTree(mockMvc.perform(get("/api/timezones/ingestions/" + trackingId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CREATED"))
+                .andReturn().getResponse().getContentAsString());
+        mockMvc.perform(get("/api/timezones/" + ingestion.get("id").asLong()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.label").value("Europe/Paris"));
+    }
+
+    @Test
+    void whenTimeZoneIsInvalid_thenRejectItBeforeQueueing() throws Exception {
+        mockMvc.perform(create(""))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Time zone label should be a non-empty string"));
+    }
+
+    @Test
+    void whenQueueIsFull_thenShedLoad() throws Exception {
+        // Given
+        mockMvc.perform(create("Europe/Paris")).andExpect(status().isAccepted());
+        mockMvc.perform(create("Europe/Berlin")).andExpect(status().isAccepted());
+
+        // When and Then
+        mockMvc.perform(create("Europe/Madrid"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        timeZoneIngestionQueue.flush();
+        mockMvc.perform(create("Europe/Madrid")).andExpect(status().isAccepted());
+    }
+
+    @Test
+    void whenDatabaseRejectsOneTimeZoneOfTheBatch_thenFailOnlyThatOne() throws Exception {
+        // Given
+        String created = this.trackingId(mockMvc.perform(create("Europe/Paris"))
+                .andExpect(status().isAccepted())
+                .andReturn());
+        // Valid, but longer than the label column
+        String failed = this.trackingId(mockMvc.perform(create("x".repeat(300)))
+                .andExpect(status().isAccepted())
+                .andReturn());
+
+        // When
+        timeZoneIngestionQueue.flush();
+
+        // Then
+        mockMvc.perform(get("/api/timezones/ingestions/" + created))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CREATED"))
+                .andExpect(jsonPath("$.id").exists());
+        mockMvc.perform(get("/api/timezones/ingestions/" + failed))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("FAILED"))
+                .andExpect(jsonPath("$.id").doesNotExist());
+    }
+
+    @Test
+    void whenTrackingIdIsUnknown_thenNotFound() throws Exception {
+        mockMvc.perform(get("/api/timezones/ingestions/unknown"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void whenProducersKeepQueueing_thenFlushOnlyWhatWasQueuedWhenItStarted() throws Exception {
+        // Given
+        TimeZoneService timeZoneService = mock(TimeZoneService.class);
+        TimeZonesProperties properties = new TimeZonesProperties();
+        properties.getIngestion().setBatchSize(1);
+        TimeZoneIngestionQueue queue = new TimeZoneIngestionQueue(timeZoneService, properties, new SimpleMeterRegistry());
+        for (int i = 0; i < 2; i++) {
+            queue.submit(newTimeZone());
+        }
+        // Every write lets a producer queue another time zone
+        when(timeZoneService.batch(any(), any(), any())).thenAnswer(invocation -> {
+            queue.submit(newTimeZone());
+            return new TimeZoneBatchResult(Set.of(), Set.of());
+        });
+
+        // When
+        queue.flush();
+
+        // Then
+        verify(timeZoneService, times(2)).batch(any(), any(), any());
+    }
+
+    private String trackingId(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("trackingId").asText();
+    }
+
+    private static TimeZone newTimeZone() {
+        return new TimeZone("Europe/Paris", LocalDateTime.of(2024, 1, 1, 12, 0), ZoneOffset.ofHours(2));
+    }
+
+    private static MockHttpServletRequestBuilder create(String label) {
+        return post("/api/timezones")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"label\": \"" + label + "\", \"dateTime\": \"2024-01-01T12:00:00\", \"offsetFromUTC\": \"+02:00\"}");
+    }
+}
@@ -0,0 +1,50 @@
+package com.timezones;
+
+import com.timezones.api.repository.TimeZoneRepository;
+import com.timezones.domain.model.TimeZone;
+import com.timezones.domain.service.TimeZoneService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PersistentStorageTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void whenApplicationRestarts_thenTimeZonesAreStillThere() {
+        // Given
+        try (ConfigurableApplicationContext context = start()) {
+            context.getBean(TimeZoneService.class)
+                    .create(new TimeZone("Europe/Paris", LocalDateTime.of(2024, 1, 1, 0, 0), ZoneOffset.ofHours(1)));
+        }
+
+        // When
+        try (ConfigurableApplicationContext context = start()) {
+            // Then
+            List<TimeZone> timeZones = context.getBean(TimeZoneRepository.class).findAll();
+            assertEquals(1, timeZones.size());
+            assertEquals("Europe/Paris", timeZones.get(0).getLabel());
+            assertEquals(0L, timeZones.get(0).getVersion());
+            assertEquals("1", context.getBean(Flyway.class).info().current().getVersion().getVersion());
+        }
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(TimeZonesApplication.class).run(
+                "--spring.profiles.active=persistent",
+                "--spring.main.web-application-type=none",
+                "--timezones.storage.directory=" + directory
+        );
+    }
+}
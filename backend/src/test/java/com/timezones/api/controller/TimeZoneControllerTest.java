@@ -1,19 +1,41 @@
 package com.timezones.api.controller;
 
+import com.jayway.jsonpath.JsonPath;
+import com.timezones.api.mapper.TimeZoneProtobufCodec;
 import com.timezones.api.repository.TimeZoneRepository;
+import com.timezones.api.repository.TimeZoneTombstoneRepository;
+import com.timezones.configuration.TimeZonesProperties;
 import com.timezones.domain.model.TimeZone;
+import com.timezones.domain.model.TimeZoneChange;
+import com.timezones.domain.model.TimeZonePage;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.List;
 import java.util.Optional;
+import java.util.zip.GZIPInputStream;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -27,9 +49,34 @@ public class TimeZoneControllerTest {
     @Autowired
     private TimeZoneRepository timeZoneRepository;
 
+    @Autowired
+    private TimeZoneTombstoneRepository timeZoneTombstoneRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TimeZonesProperties properties;
+
+    @Autowired
+    private TimeZoneController timeZoneController;
+
+    @Autowired
+    private TimeZoneChangeBroadcaster timeZoneChangeBroadcaster;
+
     @BeforeEach
     public void setup() {
+        List<TimeZone> timeZones = timeZoneRepository.findAll();
         timeZoneRepository.deleteAll();
+        // The repository is written directly, the changes are published once the rows are gone
+        timeZones.forEach(timeZone -> eventPublisher.publishEvent(
+                new TimeZoneChange(TimeZoneChange.Type.DELETED, timeZone.getId(), null)
+        ));
+        // Deletions of the previous tests would show up in the change feed
+        timeZoneTombstoneRepository.deleteAll();
     }
 
     // Get all time zones
@@ -45,8 +92,8 @@ public class TimeZoneControllerTest {
     public void whenRetrieveAllTimeZonesFromNonEmptyDatabase_thenReturnAllTimeZones() throws Exception {
         // Given
         LocalDateTime dateTime = LocalDateTime.of(2024, 3, 3, 1, 2, 3);
-        timeZoneRepository.save(new TimeZone("label", dateTime, ZoneOffset.UTC, dateTime, dateTime));
-        timeZoneRepository.save(new TimeZone("otherLabel", dateTime, ZoneOffset.ofHoursMinutes(4, 25), dateTime, dateTime));
+        saveTimeZone(new TimeZone("label", dateTime, ZoneOffset.UTC, dateTime, dateTime));
+        saveTimeZone(new TimeZone("otherLabel", dateTime, ZoneOffset.ofHoursMinutes(4, 25), dateTime, dateTime));
 
         // When and Then
         mockMvc.perform(get("/api/timezones").contentType(MediaType.APPLICATION_JSON))
@@ -57,6 +104,228 @@ public class TimeZoneControllerTest {
                 , false));
     }
 
+    @Test
+    public void whenRetrieveAllTimeZonesWithGzip_thenReturnCompressedListUntilNextChange() throws Exception {
+        // Given
+        mockMvc.perform(post("/api/timezones")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"label\": \"first\", \"dateTime\": \"2024-01-01T12:00:00\", \"offsetFromUTC\": \"+02:00\"}"))
+                .andExpect(status().isCreated());
+        String firstList = gunzip(mockMvc.perform(get("/api/timezones")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andReturn().getResponse().getContentAsByteArray());
+        assertEquals(List.of("first"), JsonPath.read(firstList, "$[*].label"));
+
+        // When
+        mockMvc.perform(post("/api/timezones")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"label\": \"second\", \"dateTime\": \"2024-01-01T12:00:00\", \"offsetFromUTC\": \"+02:00\"}"))
+                .andExpect(status().isCreated());
+
+        // Then
+        String secondList = gunzip(mockMvc.perform(get("/api/timezones")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "*"))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getContentAsByteArray());
+        assertEquals(List.of("first", "second"), JsonPath.read(secondList, "$[*].label"));
+        mockMvc.perform(get("/api/timezones").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, *"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(jsonPath("$[1].label").value("second"));
+    }
+
+    @Test
+    public void whenRetrieveTimeZonesPageByPage_thenFollowNextCursor() throws Exception {
+        // Given
+        LocalDateTime dateTime = LocalDateTime.of(2024, 3, 3, 1, 2, 3);
+        saveTimeZone(new TimeZone("first", dateTime, ZoneOffset.UTC, dateTime, dateTime));
+        saveTimeZone(new TimeZone("second", dateTime, ZoneOffset.UTC, dateTime, dateTime));
+        saveTimeZone(new TimeZone("third", dateTime, ZoneOffset.UTC, dateTime, dateTime));
+
+        // When
+        String firstPage = mockMvc.perform(get("/api/timezones?size=2&withTotal=true")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].label").value("first"))
+                .andExpect(jsonPath("$.items[1].label").value("second"))
+                .andExpect(jsonPath("$.total").value(3))
+                .andReturn().getResponse().getContentAsString();
+        String next = JsonPath.read(firstPage, "$.next");
+
+        // Then
+        mockMvc.perform(get("/api/timezones?size=2&cursor=" + next)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].label").value("third"))
+                .andExpect(jsonPath("$.next").isEmpty())
+                .andExpect(jsonPath("$.total").doesNotExist());
+    }
+
+    @Test
+    public void whenRetrieveTimeZonesWithInvalidCursor_thenReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/timezones?cursor=%25%25")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Time zone cursor is invalid, use the next cursor returned by the previous page"));
+    }
+
+    @Test
+    public void whenRetrieveTimeZonesAsProtobuf_thenReturnSameTimeZonesThanJson() throws Exception {
+        // Given
+        LocalDateTime dateTime = LocalDateTime.of(2024, 3, 3, 1, 2, 3);
+        saveTimeZone(new TimeZone("label", dateTime, ZoneOffset.UTC, dateTime, dateTime));
+        saveTimeZone(new TimeZone("otherLabel", dateTime, ZoneOffset.ofHoursMinutes(4, 25), dateTime, dateTime));
+
+        // When
+        byte[] bytes = mockMvc.perform(get("/api/timezones?size=1&withTotal=true")
+                        .accept(TimeZoneProtobufCodec.MEDIA_TYPE_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(TimeZoneProtobufCodec.MEDIA_TYPE_VALUE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        TimeZonePage timeZonePage = TimeZoneProtobufCodec.decode(bytes);
+        assertEquals(1, timeZonePage.getTimeZones().size());
+        assertEquals("label", timeZonePage.getTimeZones().get(0).getLabel());
+        assertEquals(dateTime, timeZonePage.getTimeZones().get(0).getDateTime());
+        assertEquals(2L, timeZonePage.getTotal());
+        mockMvc.perform(get("/api/timezones").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[1].offsetFromUTC").value("+04:25"));
+        assertEquals(
+                2,
+                TimeZoneProtobufCodec.decode(mockMvc.perform(get("/api/timezones")
+                                .accept(TimeZoneProtobufCodec.MEDIA_TYPE_VALUE))
+                        .andReturn().getResponse().getContentAsByteArray()).getTimeZones().size()
+        );
+    }
+
+    // Export all time zones
+    @Test
+    public void whenExportTimeZones_thenStreamOneJsonObjectPerLine() throws Exception {
+        // Given
+        LocalDateTime dateTime = LocalDateTime.of(2024, 3, 3, 1, 2, 3);
+        saveTimeZone(new TimeZone("label", dateTime, ZoneOffset.UTC, dateTime, dateTime));
+        saveTimeZone(new TimeZone("otherLabel", dateTime, ZoneOffset.ofHoursMinutes(4, 25), dateTime, dateTime));
+
+        // When
+        MvcResult mvcResult = mockMvc.perform(get("/api/timezones/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String[] lines = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        for (String line : lines) {
+            assertTrue(line.startsWith("{"), line);
+        }
+        assertEquals("label", JsonPath.read(lines[0], "$.label"));
+        assertEquals("otherLabel", JsonPath.read(lines[1], "$.label"));
+        assertEquals("+04:25", JsonPath.read(lines[1], "$.offsetFromUTC"));
+    }
+
+    @Test
+    public void whenExportTimeZones_thenFlushByBatchesOfRows() throws Exception {
+        // Given
+        LocalDateTime dateTime = LocalDateTime.of(2024, 3, 3, 1, 2, 3);
+        for (int i = 0; i < 3; i++) {
+            saveTimeZone(new TimeZone("label" + i, dateTime, ZoneOffset.UTC, dateTime, dateTime));
+        }
+        int[] flushes = { 0 };
+        OutputStream outputStream = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                flushes[0]++;
+            }
+        };
+
+        // When
+        timeZoneController.exportAllTimeZones().getBody().writeTo(outputStream);
+
+        // Then
+        String[] lines = outputStream.toString().split("\n");
+        assertEquals(3, lines.length);
+        for (String line : lines) {
+            assertTrue(line.startsWith("{"), line);
+        }
+        assertTrue(flushes[0] <= 1);  // At most once when the generator is closed
+    }
+
+    // Search time zones
+    @Test
+    public void whenSearchByLabel_thenReturnExactOrPrefixMatches() throws Exception {
+        // Given
+        LocalDateTime dateTime = LocalDateTime.of(2024, 3, 3, 1, 2, 3);
+        saveTimeZone(new TimeZone("Europe/Paris", dateTime, ZoneOffset.ofHours(1), dateTime, dateTime));
+        saveTimeZone(new TimeZone("Europe/London", dateTime, ZoneOffset.UTC, dateTime, dateTime));
+        saveTimeZone(new TimeZone("America/New_York", dateTime, ZoneOffset.ofHours(-5), dateTime, dateTime));
+
+        // When and Then
+        mockMvc.perform(get("/api/timezones/by-label").param("label", "Europe/Paris"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].label").value("Europe/Paris"));
+        mockMvc.perform(get("/api/timezones/by-label").param("label", "Europe/").param("prefix", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].label").value("Europe/London"))
+                .andExpect(jsonPath("$[1].label").value("Europe/Paris"));
+        mockMvc.perform(get("/api/timezones/by-label"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Time zone label should be a non-empty string"));
+    }
+
+    @Test
+    public void whenSearchByOffset_thenReturnTimeZonesAtThisOffset() throws Exception {
+        // Given
+        LocalDateTime dateTime = LocalDateTime.of(2024, 3, 3, 1, 2, 3);
+        saveTimeZone(new TimeZone("Europe/Paris", dateTime, ZoneOffset.ofHours(1), dateTime, dateTime));
+        saveTimeZone(new TimeZone("Europe/London", dateTime, ZoneOffset.UTC, dateTime, dateTime));
+
+        // When and Then
+        mockMvc.perform(get("/api/timezones/by-offset/+01:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].label").value("Europe/Paris"));
+        mockMvc.perform(get("/api/timezones/by-offset/+00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].label").value("Europe/London"));
+        mockMvc.perform(get("/api/timezones/by-offset/1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void whenSearchByDateTimeRange_thenReturnTimeZonesWithinBounds() throws Exception {
+        // Given
+        LocalDateTime dateTime = LocalDateTime.of(2024, 3, 3, 1, 2, 3);
+        saveTimeZone(new TimeZone("later", dateTime.plusDays(1), ZoneOffset.UTC, dateTime, dateTime));
+        saveTimeZone(new TimeZone("first", dateTime, ZoneOffset.UTC, dateTime, dateTime));
+        saveTimeZone(new TimeZone("outside", dateTime.plusDays(2), ZoneOffset.UTC, dateTime, dateTime));
+
+        // When and Then
+        mockMvc.perform(get("/api/timezones/by-date-time")
+                        .param("from", "2024-03-03T01:02:03")
+                        .param("to", "2024-03-04T01:02:03"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].label").value("first"))
+                .andExpect(jsonPath("$[1].label").value("later"));
+        mockMvc.perform(get("/api/timezones/by-date-time")
+                        .param("from", "2024-03-04T01:02:03")
+                        .param("to", "2024-03-03T01:02:03"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Time zone date-time range should not start after it ends"));
+    }
+
     // Get a time zone
     @Test
     public void whenRetrieveNonExistingTimeZone_thenReturnNotFound() throws Exception {
@@ -64,8 +333,9 @@ public class TimeZoneControllerTest {
         mockMvc.perform(get("/api/timezones/999")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound())
-                .andExpect(content().string("Time zone with id: 999 not found"))
-        ;
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.detail").value("Time zone with id: 999 not found"));
     }
 
     @Test
@@ -73,7 +343,7 @@ public class TimeZoneControllerTest {
         // Given
         LocalDateTime dateTime = LocalDateTime.of(2024, 4, 3, 1, 2, 3);
         TimeZone savedTimeZone =
-                timeZoneRepository.save(new TimeZone("label", dateTime, ZoneOffset.UTC, dateTime, dateTime));
+                saveTimeZone(new TimeZone("label", dateTime, ZoneOffset.UTC, dateTime, dateTime));
 
         // When and Then
         mockMvc.perform(get("/api/timezones/" + savedTimeZone.getId())
@@ -86,6 +356,50 @@ public class TimeZoneControllerTest {
                 .andExpect(jsonPath("$.updatedAt").value("2024-04-03T01:02:03"));
     }
 
+    @Test
+    public void whenRetrieveDeletedTimeZone_thenReturnNotFound() throws Exception {
+        // Given
+        long timeZoneFromDbId = this.setupTimeZoneToUpdate();
+        mockMvc.perform(get("/api/timezones/" + timeZoneFromDbId)).andExpect(status().isOk());
+
+        // When
+        mockMvc.perform(delete("/api/timezones/" + timeZoneFromDbId)).andExpect(status().isNoContent());
+
+        // Then
+        mockMvc.perform(get("/api/timezones/" + timeZoneFromDbId)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/timezones/cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.missCount").isNumber())
+                .andExpect(jsonPath("$.hitRate").isNumber());
+    }
+
+    @Test
+    public void whenRetrieveUnchangedTimeZoneWithItsETag_thenReturnNotModified() throws Exception {
+        // Given
+        long timeZoneFromDbId = this.setupTimeZoneToUpdate();
+        String eTag = mockMvc.perform(get("/api/timezones/" + timeZoneFromDbId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // When and Then
+        mockMvc.perform(get("/api/timezones/" + timeZoneFromDbId).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(patch("/api/timezones/" + timeZoneFromDbId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"label\": \"UTC\", \"dateTime\": \"2024-01-01T12:00:00\", \"offsetFromUTC\": \"+00:00\"}"))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/timezones/" + timeZoneFromDbId).header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.label").value("UTC"));
+    }
+
     // Create a time zone
     @Test
     public void whenCreateTimeZoneWithNullLabel_thenReturnBadRequest() throws Exception {
@@ -97,7 +411,7 @@ public class TimeZoneControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(timeZoneToCreate))
                 .andExpect(status().isBadRequest())
-                .andExpect(content().string("Time zone label should be a non-empty string"));
+                .andExpect(jsonPath("$.detail").value("Time zone label should be a non-empty string"));
     }
 
     @Test
@@ -110,7 +424,7 @@ public class TimeZoneControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(timeZoneToCreate))
                 .andExpect(status().isBadRequest())
-                .andExpect(content().string("Time zone label should be a non-empty string"));
+                .andExpect(jsonPath("$.detail").value("Time zone label should be a non-empty string"));
     }
 
     @Test
@@ -123,7 +437,7 @@ public class TimeZoneControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(timeZoneToCreate))
                 .andExpect(status().isBadRequest())
-                .andExpect(content().string("Time zone date-time should be a non-empty string"));
+                .andExpect(jsonPath("$.detail").value("Time zone date-time should be a non-empty string"));
     }
 
     @Test
@@ -136,7 +450,7 @@ public class TimeZoneControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(timeZoneToCreate))
                 .andExpect(status().isBadRequest())
-                .andExpect(content().string("Time zone date-time should be a non-empty string"));
+                .andExpect(jsonPath("$.detail").value("Time zone date-time should be a non-empty string"));
     }
 
     @Test
@@ -149,7 +463,7 @@ public class TimeZoneControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(timeZoneToCreate))
                 .andExpect(status().isBadRequest())
-                .andExpect(content().string("Time zone offset should be a non-empty string"));
+                .andExpect(jsonPath("$.detail").value("Time zone offset should be a non-empty string"));
     }
 
     @Test
@@ -162,7 +476,7 @@ public class TimeZoneControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(timeZoneToCreate))
                 .andExpect(status().isBadRequest())
-                .andExpect(content().string("Time zone offset should be a non-empty string"));
+                .andExpect(jsonPath("$.detail").value("Time zone offset should be a non-empty string"));
     }
 
     @Test
@@ -175,7 +489,7 @@ public class TimeZoneControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(timeZoneToCreate))
                 .andExpect(status().isBadRequest())
-                .andExpect(content().string("Time zone date-time should have an ISO 8601 format, for example: 2024-01-01T00:00:00"));
+                .andExpect(jsonPath("$.detail").value("Time zone date-time should have an ISO 8601 format, for example: 2024-01-01T00:00:00"));
     }
 
     @Test
@@ -188,7 +502,7 @@ public class TimeZoneControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(timeZoneToCreate))
                 .andExpect(status().isBadRequest())
-                .andExpect(content().string("Time zone offset should have this specific format: +HH:mm or -HH:mm"));
+                .andExpect(jsonPath("$.detail").value("Time zone offset should have this specific format: +HH:mm or -HH:mm"));
     }
     
     @Test
@@ -204,6 +518,370 @@ public class TimeZoneControllerTest {
                 .andExpect(content().string("Time zone created successfully"));
     }
 
+    // Clock
+    @Test
+    public void whenRetrieveCurrentLocalTimes_thenApplyEachOffset() throws Exception {
+        // Given
+        mockMvc.perform(post("/api/timezones")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"label\": \"east\", \"dateTime\": \"2024-01-01T12:00:00\", \"offsetFromUTC\": \"+02:00\"}"))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/timezones")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"label\": \"west\", \"dateTime\": \"2024-01-01T12:00:00\", \"offsetFromUTC\": \"-05:30\"}"))
+                .andExpect(status().isCreated());
+        List<TimeZone> timeZones = timeZoneRepository.findAll();
+
+        // When
+        String localTimes = mockMvc.perform(get("/api/timezones/now")
+                        .param("ids", timeZones.get(1).getId() + "," + timeZones.get(0).getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].label").value("west"))
+                .andExpect(jsonPath("$[0].offsetFromUTC").value("-05:30"))
+                .andExpect(jsonPath("$[1].label").value("east"))
+                .andReturn().getResponse().getContentAsString();
+
+        // Then
+        LocalDateTime westTime = LocalDateTime.parse(JsonPath.read(localTimes, "$[0].localDateTime"));
+        LocalDateTime eastTime = LocalDateTime.parse(JsonPath.read(localTimes, "$[1].localDateTime"));
+        assertEquals(Duration.ofMinutes(450), Duration.between(westTime, eastTime));
+        assertTrue(Duration.between(westTime, LocalDateTime.now(ZoneOffset.ofHoursMinutes(-5, -30))).abs().getSeconds() < 5);
+
+        mockMvc.perform(get("/api/timezones/" + timeZones.get(0).getId() + "/now"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.label").value("east"));
+        mockMvc.perform(get("/api/timezones/999999/now"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.detail").value("Time zone with id: 999999 not found"));
+    }
+
+    @Test
+    public void whenRetrieveLocalTimesWithEmptyId_thenBadRequest() throws Exception {
+        // Given
+        mockMvc.perform(post("/api/timezones")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"label\": \"east\", \"dateTime\": \"2024-01-01T12:00:00\", \"offsetFromUTC\": \"+02:00\"}"))
+                .andExpect(status().isCreated());
+        long id = timeZoneRepository.findAll().get(0).getId();
+
+        // When and Then
+        mockMvc.perform(get("/api/timezones/now").param("ids", id + ",," + id))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Time zone ids should be a comma-separated list of ids, without empty values"));
+    }
+
+    @Test
+    public void whenTimeZoneLabelledWithZoneId_thenFollowDaylightSavingTime() throws Exception {
+        // Given
+        mockMvc.perform(post("/api/timezones")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"label\": \"Europe/Paris\", \"dateTime\": \"2024-01-01T12:00:00\", \"offsetFromUTC\": \"+01:00\"}"))
+                .andExpect(status().isCreated());
+        long paris = timeZoneRepository.findAll().get(0).getId();
+
+        // When and Then
+        mockMvc.perform(get("/api/timezones/" + paris + "/now").param("at", "2024-01-15T12:00:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.offsetFromUTC").value("+01:00"))
+                .andExpect(jsonPath("$.localDateTime").value("2024-01-15T13:00:00"));
+        mockMvc.perform(get("/api/timezones/" + paris + "/now").param("at", "2024-07-15T12:00:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.offsetFromUTC").value("+02:00"))
+                .andExpect(jsonPath("$.localDateTime").value("2024-07-15T14:00:00"));
+        mockMvc.perform(get("/api/timezones/now").param("at", "2024-07-15"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/timezones/convert")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" +
+                                "{\"localDateTime\": \"2024-03-31T02:30:00\", \"from\": " + paris + ", \"to\": " + paris + "}," +
+                                "{\"localDateTime\": \"2024-10-27T02:30:00\", \"from\": " + paris + ", \"to\": " + paris + "}" +
+                                "]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].instant").value("2024-03-31T01:30:00Z"))
+                .andExpect(jsonPath("$[0].localDateTime").value("2024-03-31T03:30:00"))
+                .andExpect(jsonPath("$[1].instant").value("2024-10-27T00:30:00Z"))
+                .andExpect(jsonPath("$[1].offsetFromUTC").value("+02:00"));
+    }
+
+    @Test
+    public void whenConvertBetweenTimeZones_thenApplySourceAndTargetOffsets() throws Exception {
+        // Given
+        mockMvc.perform(post("/api/timezones")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"label\": \"east\", \"dateTime\": \"2024-01-01T12:00:00\", \"offsetFromUTC\": \"+02:00\"}"))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/timezones")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"label\": \"west\", \"dateTime\": \"2024-01-01T12:00:00\", \"offsetFromUTC\": \"-05:30\"}"))
+                .andExpect(status().isCreated());
+        List<TimeZone> timeZones = timeZoneRepository.findAll();
+        long east = timeZones.get(0).getId();
+        long west = timeZones.get(1).getId();
+
+        // When and Then
+        mockMvc.perform(post("/api/timezones/convert")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" +
+                                "{\"instant\": \"2024-01-01T00:00:00Z\", \"to\": " + west + "}," +
+                                "{\"localDateTime\": \"2024-01-01T01:00:00\", \"from\": " + east + ", \"to\": " + west + "}" +
+                                "]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].instant").value("2024-01-01T00:00:00Z"))
+                .andExpect(jsonPath("$[0].localDateTime").value("2023-12-31T18:30:00"))
+                .andExpect(jsonPath("$[0].offsetFromUTC").value("-05:30"))
+                .andExpect(jsonPath("$[1].instant").value("2023-12-31T23:00:00Z"))
+                .andExpect(jsonPath("$[1].localDateTime").value("2023-12-31T17:30:00"));
+        mockMvc.perform(post("/api/timezones/convert")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"localDateTime\": \"2024-01-01T01:00:00\", \"to\": " + west + "}]"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/timezones/convert")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"instant\": \"2024-01-01T00:00:00Z\", \"to\": 999999}]"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.detail").value("Time zone with id: 999999 not found"));
+        for (long missingId : new long[] { 0, -1 }) {
+            mockMvc.perform(post("/api/timezones/convert")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[{\"localDateTime\": \"2024-01-01T01:00:00\", \"from\": " + missingId
+                                    + ", \"to\": " + west + "}]"))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.detail").value("Time zone with id: " + missingId + " not found"));
+        }
+        mockMvc.perform(post("/api/timezones/convert")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"instant\": \"2024-01-01T00:00:00Z\", \"to\": " + west + "}, null]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value(containsString("at index 1")));
+    }
+
+    @Test
+    public void whenTooManyConversions_thenRejectBeforeConvertingAny() throws Exception {
+        int maxSize = properties.getConversion().getMaxSize();
+        properties.getConversion().setMaxSize(1);
+
+        try {
+            mockMvc.perform(post("/api/timezones/convert")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[{\"instant\": \"not an instant\", \"to\": 1}, null]"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.detail").value("Time zone conversions should be at most 1 per request"));
+        } finally {
+            properties.getConversion().setMaxSize(maxSize);
+        }
+    }
+
+    // Changes
+    @Test
+    public void whenSynchronizeSinceWatermark_thenReturnChangesAndTombstones() throws Exception {
+        // Given
+        String firstSync = mockMvc.perform(get("/api/timezones/changes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(0))
+                .andReturn().getResponse().getContentAsString();
+        String watermark = JsonPath.read(firstSync, "$.watermark");
+        mockMvc.perform(post("/api/timezones")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"label\": \"UTC\", \"dateTime\": \"2024-01-01T12:00:00\", \"offsetFromUTC\": \"+00:00\"}"))
+                .andExpect(status().isCreated());
+        Long id = timeZoneRepository.findAll().get(0).getId();
+
+        // When and Then
+        mockMvc.perform(get("/api/timezones/changes").param("since", watermark))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].label").value("UTC"));
+
+        mockMvc.perform(delete("/api/timezones/" + id)).andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/timezones/changes").param("since", watermark))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(0))
+                .andExpect(jsonPath("$.deleted.length()").value(1))
+                .andExpect(jsonPath("$.deleted[0]").value(id));
+
+        mockMvc.perform(get("/api/timezones/changes").param("since", "yesterday"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/timezones/changes").param("since", "2000-01-01T00:00:00"))
+                .andExpect(status().isGone());
+    }
+
+    @Test
+    public void whenSubscribedToChanges_thenReceiveCommittedChanges() throws Exception {
+        // Given
+        MvcResult stream = mockMvc.perform(get("/api/timezones/changes/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When
+        mockMvc.perform(post("/api/timezones")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"label\": \"UTC\", \"dateTime\": \"2024-01-01T12:00:00\", \"offsetFromUTC\": \"+00:00\"}"))
+                .andExpect(status().isCreated());
+
+        // Then
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!stream.getResponse().getContentAsString().contains("\"label\":\"UTC\"")
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        String events = stream.getResponse().getContentAsString();
+        assertTrue(events.contains("event:CREATED"));
+        assertTrue(events.contains("\"label\":\"UTC\""));
+    }
+
+    @Test
+    public void whenBatchLargerThanTheStreamQueueCommits_thenKeepTheSubscriber() throws Exception {
+        // Given
+        int queueCapacity = properties.getChanges().getStreamQueueCapacity();
+        properties.getChanges().setStreamQueueCapacity(2);
+        int subscribers = timeZoneChangeBroadcaster.subscribers();
+        StringBuilder batch = new StringBuilder("{\"create\": [");
+        for (int i = 0; i < 10; i++) {
+            batch.append(i == 0 ? "" : ",")
+                    .append("{\"label\": \"label").append(i)
+                    .append("\", \"dateTime\": \"2024-01-01T12:00:00\", \"offsetFromUTC\": \"+00:00\"}");
+        }
+        batch.append("]}");
+
+        try {
+            MvcResult stream = mockMvc.perform(get("/api/timezones/changes/stream"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // When
+            mockMvc.perform(post("/api/timezones/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(batch.toString()))
+                    .andExpect(status().isOk());
+
+            // Then
+            long deadline = System.currentTimeMillis() + 5000;
+            while (!stream.getResponse().getContentAsString().contains("\"label\":\"label9\"")
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            String events = stream.getResponse().getContentAsString();
+            assertEquals(10, events.split("event:CREATED", -1).length - 1);
+            assertEquals(subscribers + 1, timeZoneChangeBroadcaster.subscribers());
+        } finally {
+            properties.getChanges().setStreamQueueCapacity(queueCapacity);
+        }
+    }
+
+    // Batch
+    @Test
+    public void whenBatchMixesValidAndInvalidItems_thenReportOutcomePerItem() throws Exception {
+        // Given
+        long existingId = this.setupTimeZoneToUpdate();
+        long otherExistingId = this.setupTimeZoneToUpdate();
+        String batch = "{" +
+                "\"create\": [" +
+                "{\"label\": \"UTC\", \"dateTime\": \"2024-01-01T12:00:00\", \"offsetFromUTC\": \"+00:00\"}," +
+                "{\"label\": \"\", \"dateTime\": \"2024-01-01T12:00:00\", \"offsetFromUTC\": \"+00:00\"}]," +
+                "\"update\": [" +
+                "{\"id\": " + existingId + ", \"label\": \"updated\", \"dateTime\": \"2024-01-01T12:00:00\", \"offsetFromUTC\": \"+01:00\"}," +
+                "{\"id\": 999999, \"label\": \"missing\", \"dateTime\": \"2024-01-01T12:00:00\", \"offsetFromUTC\": \"+01:00\"}]," +
+                "\"delete\": [" + otherExistingId + ", 888888]" +
+                "}";
+
+        // When and Then
+        mockMvc.perform(post("/api/timezones/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created[0].index").value(0))
+                .andExpect(jsonPath("$.created[0].status").value(201))
+                .andExpect(jsonPath("$.created[0].id").isNumber())
+                .andExpect(jsonPath("$.created[1].index").value(1))
+                .andExpect(jsonPath("$.created[1].status").value(400))
+                .andExpect(jsonPath("$.created[1].message").value("Time zone label should be a non-empty string"))
+                .andExpect(jsonPath("$.updated[0].status").value(204))
+                .andExpect(jsonPath("$.updated[1].status").value(404))
+                .andExpect(jsonPath("$.updated[1].message").value("Time zone with id: 999999 not found"))
+                .andExpect(jsonPath("$.deleted[0].status").value(204))
+                .andExpect(jsonPath("$.deleted[1].status").value(404));
+
+        assertEquals("updated", timeZoneRepository.findById(existingId).orElseThrow().getLabel());
+        assertEquals(ZoneOffset.ofHours(1), timeZoneRepository.findById(existingId).orElseThrow().getOffsetFromUTC());
+        assert timeZoneRepository.findById(otherExistingId).isEmpty();
+        assertEquals(2, timeZoneRepository.count());
+    }
+
+    @Test
+    public void whenBatchOmitsOperationLists_thenTreatThemAsEmpty() throws Exception {
+        // Given
+        long existingId = this.setupTimeZoneToUpdate();
+        String batch = "{\"create\": null, \"delete\": [" + existingId + "]}";
+
+        // When and Then
+        mockMvc.perform(post("/api/timezones/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created.length()").value(0))
+                .andExpect(jsonPath("$.updated.length()").value(0))
+                .andExpect(jsonPath("$.deleted[0].status").value(204));
+
+        assertEquals(0, timeZoneRepository.count());
+    }
+
+    @Test
+    public void whenBatchHasNullItemOrId_thenRejectBeforeApplyingAny() throws Exception {
+        // Given
+        long existingId = this.setupTimeZoneToUpdate();
+        String valid = "{\"label\": \"UTC\", \"dateTime\": \"2024-01-01T12:00:00\", \"offsetFromUTC\": \"+00:00\"}";
+
+        // When and Then
+        mockMvc.perform(post("/api/timezones/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"create\": [" + valid + ", null]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Time zone batch create at index 1 should be a time zone"));
+        mockMvc.perform(post("/api/timezones/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"update\": [null]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Time zone batch update at index 0 should be a time zone with its id"));
+        mockMvc.perform(post("/api/timezones/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"update\": [" + valid + "]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Time zone batch update at index 0 should be a time zone with its id"));
+        mockMvc.perform(post("/api/timezones/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"create\": [" + valid + "], \"delete\": [" + existingId + ", null]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Time zone batch delete at index 1 should be an id"));
+
+        assertEquals(1, timeZoneRepository.count());
+        assert timeZoneRepository.findById(existingId).isPresent();
+    }
+
+    @Test
+    public void whenBatchHasTooManyOperations_thenRejectBeforeApplyingAny() throws Exception {
+        // Given
+        int maxSize = properties.getBatch().getMaxSize();
+        properties.getBatch().setMaxSize(1);
+        String batch = "{" +
+                "\"create\": [" +
+                "{\"label\": \"UTC\", \"dateTime\": \"2024-01-01T12:00:00\", \"offsetFromUTC\": \"+00:00\"}," +
+                "{\"label\": \"\", \"dateTime\": \"2024-01-01T12:00:00\", \"offsetFromUTC\": \"+00:00\"}]" +
+                "}";
+
+        // When and Then
+        try {
+            mockMvc.perform(post("/api/timezones/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(batch))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.detail").value("Time zone batch should contain at most 1 operations"));
+        } finally {
+            properties.getBatch().setMaxSize(maxSize);
+        }
+        assertEquals(0, timeZoneRepository.count());
+    }
+
     // Update a time zone
     @Test
     public void whenUpdateNonExistingTimeZone_thenReturnNotFound() throws Exception {
@@ -217,7 +895,7 @@ public class TimeZoneControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(timeZoneToUpdate))
                 .andExpect(status().isNotFound())
-                .andExpect(content().string("Time zone with id: " + wrongTimeZoneId + " not found"));
+                .andExpect(jsonPath("$.detail").value("Time zone with id: " + wrongTimeZoneId + " not found"));
     }
 
     @Test
@@ -231,7 +909,7 @@ public class TimeZoneControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(timeZoneToUpdate))
                 .andExpect(status().isBadRequest())
-                .andExpect(content().string("Time zone label should be a non-empty string"));
+                .andExpect(jsonPath("$.detail").value("Time zone label should be a non-empty string"));
     }
 
     @Test
@@ -245,7 +923,7 @@ public class TimeZoneControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(timeZoneToUpdate))
                 .andExpect(status().isBadRequest())
-                .andExpect(content().string("Time zone label should be a non-empty string"));
+                .andExpect(jsonPath("$.detail").value("Time zone label should be a non-empty string"));
     }
 
     @Test
@@ -259,7 +937,7 @@ public class TimeZoneControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(timeZoneToUpdate))
                 .andExpect(status().isBadRequest())
-                .andExpect(content().string("Time zone date-time should be a non-empty string"));
+                .andExpect(jsonPath("$.detail").value("Time zone date-time should be a non-empty string"));
     }
 
     @Test
@@ -273,7 +951,7 @@ public class TimeZoneControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(timeZoneToUpdate))
                 .andExpect(status().isBadRequest())
-                .andExpect(content().string("Time zone date-time should be a non-empty string"));
+                .andExpect(jsonPath("$.detail").value("Time zone date-time should be a non-empty string"));
     }
 
     @Test
@@ -287,7 +965,7 @@ public class TimeZoneControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(timeZoneToUpdate))
                 .andExpect(status().isBadRequest())
-                .andExpect(content().string("Time zone offset should be a non-empty string"));
+                .andExpect(jsonPath("$.detail").value("Time zone offset should be a non-empty string"));
     }
 
     @Test
@@ -301,7 +979,7 @@ public class TimeZoneControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(timeZoneToUpdate))
                 .andExpect(status().isBadRequest())
-                .andExpect(content().string("Time zone offset should be a non-empty string"));
+                .andExpect(jsonPath("$.detail").value("Time zone offset should be a non-empty string"));
     }
 
     @Test
@@ -315,7 +993,7 @@ public class TimeZoneControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(timeZoneToUpdate))
                 .andExpect(status().isBadRequest())
-                .andExpect(content().string("Time zone date-time should have an ISO 8601 format, for example: 2024-01-01T00:00:00"));
+                .andExpect(jsonPath("$.detail").value("Time zone date-time should have an ISO 8601 format, for example: 2024-01-01T00:00:00"));
     }
 
     @Test
@@ -329,7 +1007,7 @@ public class TimeZoneControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(timeZoneToUpdate))
                 .andExpect(status().isBadRequest())
-                .andExpect(content().string("Time zone offset should have this specific format: +HH:mm or -HH:mm"));
+                .andExpect(jsonPath("$.detail").value("Time zone offset should have this specific format: +HH:mm or -HH:mm"));
     }
 
     @Test
@@ -343,6 +1021,38 @@ public class TimeZoneControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(timeZoneToUpdate))
                 .andExpect(status().isNoContent());
+
+        assertEquals(1, timeZoneRepository.count());
+        TimeZone updatedTimeZone = timeZoneRepository.findById(timeZoneFromDbId).orElseThrow();
+        assertEquals("UTC", updatedTimeZone.getLabel());
+        assertEquals(LocalDateTime.of(2024, 1, 1, 12, 0, 0), updatedTimeZone.getDateTime());
+        assertEquals(LocalDateTime.of(2024, 4, 3, 1, 2, 3), updatedTimeZone.getCreatedAt());
+    }
+
+    @Test
+    public void whenUpdateTimeZoneWithStaleETag_thenReturnPreconditionFailed() throws Exception {
+        // Given
+        long timeZoneFromDbId = this.setupTimeZoneToUpdate();
+        String timeZoneToUpdate = "{\"label\": \"UTC\", \"dateTime\": \"2024-01-01T12:00:00\", \"offsetFromUTC\": \"+00:00\"}";
+        mockMvc.perform(patch("/api/timezones/" + timeZoneFromDbId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("If-Match", "\"0\"")
+                        .content(timeZoneToUpdate))
+                .andExpect(status().isNoContent());
+
+        // When and Then
+        mockMvc.perform(patch("/api/timezones/" + timeZoneFromDbId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("If-Match", "\"0\"")
+                        .content(timeZoneToUpdate))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.detail").value(
+                        "Time zone with id: " + timeZoneFromDbId + " has been modified since the given ETag, fetch it again"
+                ));
+        mockMvc.perform(delete("/api/timezones/" + timeZoneFromDbId).header("If-Match", "\"0\""))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/api/timezones/" + timeZoneFromDbId).header("If-Match", "\"0\", \"1\""))
+                .andExpect(status().isNoContent());
     }
 
     // Delete a time zone
@@ -351,7 +1061,57 @@ public class TimeZoneControllerTest {
         mockMvc.perform(delete("/api/timezones/" + 123123L)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound())
-                .andExpect(content().string("Time zone with id: 123123 not found"));
+                .andExpect(jsonPath("$.detail").value("Time zone with id: 123123 not found"));
+    }
+
+    // Metrics
+    @Test
+    public void whenTimeZoneNotFound_thenRecordServiceTimerAndFailure() throws Exception {
+        // Given
+        double failures = this.serviceFailures("getById");
+
+        // When
+        mockMvc.perform(get("/api/timezones/" + 123123L))
+                .andExpect(status().isNotFound());
+
+        // Then
+        assertEquals(failures + 1, this.serviceFailures("getById"));
+        assertTrue(meterRegistry.get("timezones.service").tag("method", "getById").timer().count() > 0);
+        assertTrue(meterRegistry.get("spring.data.repository.invocations").tag("method", "findById").timer().count() > 0);
+        assertTrue(meterRegistry.get("http.server.requests").tags("uri", "/api/timezones/{id}", "exception", "TimeZoneNotFoundException").timer().count() > 0);
+        meterRegistry.get("hikaricp.connections.active").gauge();
+        meterRegistry.get("hibernate.statements").functionCounter();
+    }
+
+    @Test
+    public void whenControllerRejectsTimeZone_thenCountErrorByExceptionClass() throws Exception {
+        // Given
+        double errors = this.apiErrors("TimeZoneOffsetFormatException");
+
+        // When
+        mockMvc.perform(post("/api/timezones")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"label\": \"UTC\", \"dateTime\": \"2024-01-01T12:00:00\", \"offsetFromUTC\": \"abc\"}"))
+                .andExpect(status().isBadRequest());
+
+        // Then
+        assertEquals(errors + 1, this.apiErrors("TimeZoneOffsetFormatException"));
+    }
+
+    private double apiErrors(String exception) {
+        return Optional.ofNullable(meterRegistry.find("timezones.api.errors")
+                        .tags("exception", exception, "status", "400")
+                        .counter())
+                .map(counter -> counter.count())
+                .orElse(0.0);
+    }
+
+    private double serviceFailures(String method) {
+        return Optional.ofNullable(meterRegistry.find("timezones.service.failures")
+                        .tags("method", method, "exception", "TimeZoneNotFoundException")
+                        .counter())
+                .map(counter -> counter.count())
+                .orElse(0.0);
     }
 
     @Test
@@ -369,7 +1129,20 @@ public class TimeZoneControllerTest {
     private Long setupTimeZoneToUpdate() {
         LocalDateTime dateTime = LocalDateTime.of(2024, 4, 3, 1, 2, 3);
         TimeZone timeZoneFromDb =
-                timeZoneRepository.save(new TimeZone("label", dateTime, ZoneOffset.UTC, dateTime, dateTime));
+                saveTimeZone(new TimeZone("label", dateTime, ZoneOffset.UTC, dateTime, dateTime));
         return timeZoneFromDb.getId();
     }
+
+    // Publishes the change the service would have published, after the write
+    private TimeZone saveTimeZone(TimeZone timeZone) {
+        TimeZone savedTimeZone = timeZoneRepository.save(timeZone);
+        eventPublisher.publishEvent(new TimeZoneChange(TimeZoneChange.Type.CREATED, savedTimeZone.getId(), savedTimeZone));
+        return savedTimeZone;
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
 }
@@ -7,7 +7,13 @@ import com.timezones.domain.exceptions.TimeZoneLabelException;
 import com.timezones.domain.exceptions.TimeZoneOffsetFormatException;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class TimeZoneDtoValidatorTest {
@@ -63,4 +69,50 @@ public class TimeZoneDtoValidatorTest {
 
         assertDoesNotThrow(() -> TimeZoneDtoValidator.validate(partialTimeZoneDto));
     }
+
+    @Test
+    public void whenTimeZoneDtoHasOutOfRangeDateTime_thenThrow() {
+        PartialTimeZoneDto partialTimeZoneDto = new PartialTimeZoneDto("label", "2023-02-29T00:00:00", "+02:00");
+
+        assertThrows(TimeZoneDateTimeFormatException.class, () -> {
+            TimeZoneDtoValidator.validate(partialTimeZoneDto);
+        });
+    }
+
+    @Test
+    public void whenTimeZoneDtoHasNonDigitDateTime_thenThrow() {
+        PartialTimeZoneDto partialTimeZoneDto = new PartialTimeZoneDto("label", "2024-0a-01T00:00:00", "+02:00");
+
+        assertThrows(TimeZoneDateTimeFormatException.class, () -> {
+            TimeZoneDtoValidator.validate(partialTimeZoneDto);
+        });
+    }
+
+    @Test
+    public void whenTimeZoneDtoHasOutOfRangeOffset_thenThrow() {
+        PartialTimeZoneDto partialTimeZoneDto = new PartialTimeZoneDto("label", "2024-01-01T00:00:00", "+19:00");
+
+        assertThrows(TimeZoneOffsetFormatException.class, () -> {
+            TimeZoneDtoValidator.validate(partialTimeZoneDto);
+        });
+    }
+
+    @Test
+    public void whenDateTimeIsValid_thenParseIt() {
+        assertEquals(LocalDateTime.of(2024, 2, 29, 23, 59, 58), TimeZoneDtoValidator.parseDateTime("2024-02-29T23:59:58"));
+    }
+
+    @Test
+    public void whenOffsetIsNegative_thenParseBothHoursAndMinutesAsNegative() {
+        assertEquals(ZoneOffset.ofHoursMinutes(-3, -30), TimeZoneDtoValidator.parseOffset("-03:30"));
+        assertEquals(ZoneOffset.UTC, TimeZoneDtoValidator.parseOffset("-00:00"));
+    }
+
+    @Test
+    public void whenIfMatchListsETags_thenParseTheVersionOfEachStrongOne() {
+        assertEquals(List.of(12345678901L), TimeZoneDtoValidator.parseETags("\"12345678901\""));
+        assertEquals(List.of(1L, 3L), TimeZoneDtoValidator.parseETags("\"1\", W/\"2\",\"3\" , \"x\""));
+        assertEquals(List.of(), TimeZoneDtoValidator.parseETags("\"99999999999999999999\""));
+        assertNull(TimeZoneDtoValidator.parseETags(" * "));
+    }
 }
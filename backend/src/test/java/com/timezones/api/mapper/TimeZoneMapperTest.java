@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -37,6 +38,31 @@ public class TimeZoneMapperTest {
         assertEquals("2024-03-01T06:21:38", timeZoneDto.getUpdatedAt());
     }
 
+    @Test
+    public void whenDateTimeHasFiveDigitYear_thenFallBackToFormatter() {
+        assertEquals("+10000-01-02T03:04:05", TimeZoneMapper.formatDateTime(LocalDateTime.of(10000, 1, 2, 3, 4, 5)));
+    }
+
+    @Test
+    public void whenLocalEpochSecond_thenFormatLikeLocalDateTime() {
+        long[] localEpochSeconds = {
+                0L, -1L, 951782400L, 951868799L, 4107542399L, -62135596800L, 253402300799L, 1709427723L
+        };
+        for (long localEpochSecond : localEpochSeconds) {
+            assertEquals(
+                    LocalDateTime.ofEpochSecond(localEpochSecond, 0, ZoneOffset.UTC).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                    TimeZoneMapper.formatLocalEpochSecond(localEpochSecond)
+            );
+        }
+        assertEquals("+10000-01-01T00:00:00", TimeZoneMapper.formatLocalEpochSecond(253402300800L));
+    }
+
+    @Test
+    public void whenOffsetIsNotUTC_thenReturnOffsetId() {
+        assertEquals("-09:30", TimeZoneMapper.formatOffset(ZoneOffset.ofHoursMinutes(-9, -30)));
+        assertEquals("+00:00", TimeZoneMapper.formatOffset(ZoneOffset.of("Z")));
+    }
+
     @Test
     public void whenTimeZoneDto_thenReturnTimeZone() {
         // Given
@@ -0,0 +1,83 @@
+package com.timezones.api.mapper;
+
+import com.timezones.domain.model.TimeZone;
+import com.timezones.domain.model.TimeZonePage;
+import com.timezones.domain.model.TimeZoneSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class TimeZoneProtobufCodecTest {
+
+    @Test
+    public void whenTimeZonePageEncoded_thenDecodeSamePage() {
+        // Given
+        TimeZone timeZone = new TimeZone(
+                "America/St_John's",
+                LocalDateTime.of(1969, 12, 31, 23, 59, 59),
+                ZoneOffset.ofHoursMinutes(-3, -30),
+                LocalDateTime.of(2024, 2, 1, 15, 46, 7),
+                LocalDateTime.of(+10000, 3, 1, 6, 21, 38)
+        );
+        timeZone.setId(300L);
+        timeZone.setVersion(2L);
+        // Labels of 128 bytes and more need a second byte for their length
+        TimeZone otherTimeZone = new TimeZone("Zürich/".repeat(20), LocalDateTime.of(2024, 1, 1, 0, 0), ZoneOffset.UTC);
+
+        // When
+        TimeZonePage timeZonePage = TimeZoneProtobufCodec.decode(
+                TimeZoneProtobufCodec.encode(new TimeZonePage(List.of(timeZone, otherTimeZone), "MzAw", 2L))
+        );
+
+        // Then
+        assertEquals(List.of(timeZone, otherTimeZone), timeZonePage.getTimeZones());
+        assertEquals("MzAw", timeZonePage.getNext());
+        assertEquals(2L, timeZonePage.getTotal());
+    }
+
+    @Test
+    public void whenTimeZoneEncoded_thenWriteProtobufWireFormat() {
+        // Given
+        TimeZone timeZone = new TimeZone("UTC", LocalDateTime.of(1970, 1, 1, 0, 1, 4), ZoneOffset.ofHours(-1));
+        timeZone.setId(150L);
+
+        // When
+        byte[] bytes = TimeZoneProtobufCodec.encode(new TimeZonePage(List.of(timeZone), null, null));
+
+        // Then
+        assertArrayEquals(new byte[] {
+                0x0A, 0x0E,                       // time_zones, 14 bytes
+                0x08, (byte) 0x96, 0x01,          // id = 150
+                0x12, 0x03, 'U', 'T', 'C',        // label = "UTC"
+                0x18, (byte) 0x80, 0x01,          // date_time = 64 zigzag encoded
+                0x20, (byte) 0x9F, 0x38           // offset_from_utc = -3600 zigzag encoded
+        }, bytes);
+        assertNull(TimeZoneProtobufCodec.decode(bytes).getTimeZones().get(0).getCreatedAt());
+    }
+
+    @Test
+    public void whenSnapshotsEncoded_thenWriteSameBytesThanFullPage() {
+        // Given
+        TimeZone timeZone = new TimeZone(
+                "Europe/Paris",
+                LocalDateTime.of(2024, 1, 1, 0, 0),
+                ZoneOffset.ofHours(1),
+                LocalDateTime.of(2024, 2, 1, 15, 46, 7),
+                LocalDateTime.of(2024, 2, 1, 15, 46, 7)
+        );
+        timeZone.setId(1L);
+        timeZone.setVersion(0L);
+
+        // When
+        byte[] bytes = TimeZoneProtobufCodec.encode(List.of(new TimeZoneSnapshot(timeZone)));
+
+        // Then
+        assertArrayEquals(TimeZoneProtobufCodec.encode(new TimeZonePage(List.of(timeZone), null, null)), bytes);
+    }
+}
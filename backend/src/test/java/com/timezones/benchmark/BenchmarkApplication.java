@@ -0,0 +1,42 @@
+package com.timezones.benchmark;
+
+import com.timezones.TimeZonesApplication;
+import com.timezones.api.repository.TimeZoneRepository;
+import com.timezones.domain.model.TimeZone;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Starts the application on an in-memory H2 database for benchmarks that need the Spring context.
+ */
+public class BenchmarkApplication {
+
+    private static final String[] DEFAULT_ARGUMENTS = {
+            "--server.port=0",
+            "--spring.jpa.show-sql=false",
+            "--logging.level.root=WARN",
+            // A benchmark is a single client sending as fast as it can, most of its requests would be rejected
+            "--timezones.admission.enabled=false",
+    };
+
+    public static ConfigurableApplicationContext start(String... arguments) {
+        return new SpringApplicationBuilder(TimeZonesApplication.class)
+                .run(Stream.concat(Stream.of(DEFAULT_ARGUMENTS), Stream.of(arguments)).toArray(String[]::new));
+    }
+
+    public static List<Long> seed(ConfigurableApplicationContext context, int count) {
+        TimeZoneRepository timeZoneRepository = context.getBean(TimeZoneRepository.class);
+        LocalDateTime dateTime = LocalDateTime.of(2024, 3, 3, 1, 2, 3);
+        List<TimeZone> timeZones = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            timeZones.add(new TimeZone("zone-" + i, dateTime, ZoneOffset.ofHours(i % 24 - 11), dateTime, dateTime));
+        }
+        return timeZoneRepository.saveAll(timeZones).stream().map(TimeZone::getId).toList();
+    }
+}
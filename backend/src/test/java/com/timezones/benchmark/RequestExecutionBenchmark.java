@@ -0,0 +1,57 @@
+package com.timezones.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test comparing platform and virtual request threads over real HTTP, with more concurrent
+ * clients than the default Tomcat pool of 200 threads. Sample time mode reports the p99 latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(400)
+@Fork(value = 1, jvmArgsAppend = "-Djdk.tracePinnedThreads=short")
+public class RequestExecutionBenchmark {
+
+    @Param({ "platform", "virtual" })
+    private String threads;
+
+    private ConfigurableApplicationContext context;
+
+    private HttpClient httpClient;
+
+    private HttpRequest pageRequest;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = "virtual".equals(threads)
+                ? BenchmarkApplication.start("--spring.profiles.active=virtual-threads")
+                : BenchmarkApplication.start();
+        BenchmarkApplication.seed(context, 1000);
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        httpClient = HttpClient.newHttpClient();
+        pageRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/timezones?size=50")).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int getPage() throws Exception {
+        return httpClient.send(pageRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
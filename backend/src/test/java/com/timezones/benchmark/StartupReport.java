@@ -0,0 +1,121 @@
+package com.timezones.benchmark;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Starts the packaged application several times with each startup optimization, and writes the median time until it
+ * serves requests, then the time of the first request, to a Markdown report. Run by the startup profile:
+ * {@code mvn -Pstartup verify}.
+ */
+public class StartupReport {
+
+    private static final int RUNS = 5;
+
+    private static final Pattern STARTED =
+            Pattern.compile("Started TimeZonesApplication in [0-9.]+ seconds \\(process running for ([0-9.]+)\\)");
+
+    private static final Pattern PORT = Pattern.compile("Tomcat started on port (\\d+)");
+
+    /**
+     * Arguments: the executable jar, the directory it was extracted to with its CDS archive, and the report file.
+     */
+    public static void main(String[] args) throws Exception {
+        Path jar = Path.of(args[0]);
+        Path extracted = Path.of(args[1]).resolve(jar.getFileName());
+        Path archive = Path.of(args[1]).resolve("application.jsa");
+        Path report = Path.of(args[2]);
+
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+        variants.put("Jar exécutable, profil par défaut", List.of("-jar", jar.toString()));
+        variants.put("Extrait, profil startup", List.of(
+                "-Dspring.profiles.active=startup", "-jar", extracted.toString()
+        ));
+        variants.put("Extrait, profil startup, AOT", List.of(
+                "-Dspring.profiles.active=startup", "-Dspring.aot.enabled=true", "-jar", extracted.toString()
+        ));
+        variants.put("Extrait, profil startup, AOT, CDS", List.of(
+                "-XX:SharedArchiveFile=" + archive, "-Xlog:cds=off", "-Xlog:cds+dynamic=off",
+                "-Dspring.profiles.active=startup", "-Dspring.aot.enabled=true", "-jar", extracted.toString()
+        ));
+
+        StringBuilder markdown = new StringBuilder()
+                .append("| Lancement | Démarrage (médiane de ").append(RUNS).append(") | Première requête |\n")
+                .append("|---|---|---|\n");
+        for (Map.Entry<String, List<String>> variant : variants.entrySet()) {
+            double[] startups = new double[RUNS];
+            double[] firstRequests = new double[RUNS];
+            for (int i = 0; i < RUNS; i++) {
+                double[] run = run(variant.getValue());
+                startups[i] = run[0];
+                firstRequests[i] = run[1];
+            }
+            markdown.append(String.format("| %s | %.2f s | %.0f ms |%n",
+                    variant.getKey(), median(startups), median(firstRequests) * 1000));
+        }
+
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        Files.writeString(report, markdown);
+        System.out.print(markdown);
+    }
+
+    // Returns the uptime of the JVM once started, then the duration of a first request, both in seconds
+    private static double[] run(List<String> arguments) throws Exception {
+        String java = ProcessHandle.current().info().command().orElse("java");
+        List<String> command = new ArrayList<>(List.of(java, "-Dserver.port=0", "-Dspring.jpa.show-sql=false"));
+        command.addAll(arguments);
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            Integer port = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Matcher portMatcher = PORT.matcher(line);
+                if (portMatcher.find()) {
+                    port = Integer.parseInt(portMatcher.group(1));
+                }
+                Matcher startedMatcher = STARTED.matcher(line);
+                if (startedMatcher.find() && port != null) {
+                    double startup = Double.parseDouble(startedMatcher.group(1));
+                    return new double[] { startup, firstRequest(port) };
+                }
+            }
+            throw new IllegalStateException("The application stopped before it started: " + command);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static double firstRequest(int port) throws Exception {
+        try (HttpClient httpClient = HttpClient.newHttpClient()) {
+            long start = System.nanoTime();
+            HttpResponse<Void> response = httpClient.send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/timezones")).build(),
+                    HttpResponse.BodyHandlers.discarding()
+            );
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("First request failed with status " + response.statusCode());
+            }
+            return (System.nanoTime() - start) / 1e9;
+        }
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
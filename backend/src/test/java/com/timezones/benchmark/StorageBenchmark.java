@@ -0,0 +1,86 @@
+package com.timezones.benchmark;
+
+import com.timezones.api.repository.TimeZoneRepository;
+import com.timezones.domain.model.TimeZone;
+import com.timezones.domain.service.TimeZoneService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the in-memory database with the persistent profile: the time until a restarted application serves all the
+ * time zones again, and the cost of a committed write.
+ */
+@State(Scope.Benchmark)
+public class StorageBenchmark {
+
+    // Kept between the forks, so that the persistent database is reopened like after a restart
+    private static final String DIRECTORY = "./target/storage-benchmark";
+
+    @Param({ "memory", "persistent" })
+    private String storage;
+
+    @Param({ "10000" })
+    private int rows;
+
+    // A new JVM per measurement, the warmup fork creates the persistent database
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(value = 5, warmups = 1)
+    public long coldStart() {
+        try (ConfigurableApplicationContext startedContext = this.start()) {
+            // The in-memory database starts empty and has to be seeded again, as the deploy did over the API
+            TimeZoneRepository timeZoneRepository = startedContext.getBean(TimeZoneRepository.class);
+            if (timeZoneRepository.count() == 0) {
+                BenchmarkApplication.seed(startedContext, rows);
+            }
+            return timeZoneRepository.count();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 5, time = 5)
+    @Measurement(iterations = 5, time = 2)
+    @Fork(1)
+    public void create(StartedApplication application) {
+        application.timeZoneService.create(
+                new TimeZone("Europe/Paris", LocalDateTime.of(2024, 3, 3, 1, 2, 3), ZoneOffset.ofHours(1))
+        );
+    }
+
+    private ConfigurableApplicationContext start() {
+        return BenchmarkApplication.start(
+                "--spring.main.web-application-type=none",
+                "--spring.profiles.active=" + (storage.equals("persistent") ? "persistent" : "default"),
+                "--timezones.storage.directory=" + DIRECTORY
+        );
+    }
+
+    // Only started for the writes, coldStart starts its own
+    @State(Scope.Benchmark)
+    public static class StartedApplication {
+
+        private ConfigurableApplicationContext context;
+
+        private TimeZoneService timeZoneService;
+
+        @Setup(Level.Trial)
+        public void setup(StorageBenchmark benchmark) {
+            context = benchmark.start();
+            timeZoneService = context.getBean(TimeZoneService.class);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+    }
+}
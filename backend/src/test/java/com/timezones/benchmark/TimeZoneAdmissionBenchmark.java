@@ -0,0 +1,52 @@
+package com.timezones.benchmark;
+
+import com.timezones.api.admission.TimeZoneConcurrencyLimiter;
+import com.timezones.api.admission.TimeZoneRateLimiter;
+import com.timezones.configuration.TimeZonesProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost added to every request by the admission control, with several threads on the same buckets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class TimeZoneAdmissionBenchmark {
+
+    private static final String[] CLIENTS = { "10.0.0.1", "10.0.0.2", "10.0.0.3", "10.0.0.4" };
+
+    private TimeZoneRateLimiter rateLimiter;
+
+    private TimeZoneConcurrencyLimiter concurrencyLimiter;
+
+    @Setup
+    public void setup() {
+        TimeZonesProperties properties = new TimeZonesProperties();
+        // Never empty, so that every call takes a token
+        properties.getAdmission().getRateLimit().setRefillPerSecond(1_000_000_000);
+        rateLimiter = new TimeZoneRateLimiter(properties);
+        concurrencyLimiter = new TimeZoneConcurrencyLimiter(properties, new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public long rateLimit() {
+        return rateLimiter.tryAcquire("TimeZoneController#getById", CLIENTS[ThreadLocalRandom.current().nextInt(CLIENTS.length)]);
+    }
+
+    @Benchmark
+    public boolean concurrencyLimit() {
+        boolean acquired = concurrencyLimiter.tryAcquire();
+        if (acquired) {
+            concurrencyLimiter.release(1000);
+        }
+        return acquired;
+    }
+}
@@ -0,0 +1,79 @@
+package com.timezones.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimeZoneControllerBenchmark {
+
+    private static final String TIME_ZONE_TO_CREATE =
+            "{\"label\": \"Europe/Paris\", \"dateTime\": \"2024-01-01T12:00:00\", \"offsetFromUTC\": \"+01:00\"}";
+
+    @Param({ "1000" })
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+
+    private MockMvc mockMvc;
+
+    private List<Long> ids;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkApplication.start();
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+        ids = BenchmarkApplication.seed(context, rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MvcResult getAll() throws Exception {
+        return mockMvc.perform(get("/api/timezones")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getAllGzip() throws Exception {
+        return mockMvc.perform(get("/api/timezones").header(HttpHeaders.ACCEPT_ENCODING, "gzip")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getPage() throws Exception {
+        return mockMvc.perform(get("/api/timezones?size=50")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getById() throws Exception {
+        Long id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        return mockMvc.perform(get("/api/timezones/" + id)).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult create() throws Exception {
+        return mockMvc.perform(post("/api/timezones")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(TIME_ZONE_TO_CREATE))
+                .andReturn();
+    }
+}
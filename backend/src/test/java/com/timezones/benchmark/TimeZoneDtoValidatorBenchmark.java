@@ -0,0 +1,71 @@
+package com.timezones.benchmark;
+
+import com.timezones.api.dto.PartialTimeZoneDto;
+import com.timezones.api.mapper.TimeZoneDtoValidator;
+import com.timezones.api.mapper.TimeZoneMapper;
+import com.timezones.domain.exceptions.TimeZoneValidationException;
+import com.timezones.domain.model.TimeZone;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeZoneDtoValidatorBenchmark {
+
+    private final PartialTimeZoneDto partialTimeZoneDto =
+            new PartialTimeZoneDto("Europe/Paris", "2024-03-03T01:02:03", "+01:30");
+
+    private final PartialTimeZoneDto invalidPartialTimeZoneDto =
+            new PartialTimeZoneDto("Europe/Paris", "2024-03-03T01:02:03", "01:30");
+
+    @Benchmark
+    public void validate() {
+        TimeZoneDtoValidator.validate(partialTimeZoneDto);
+    }
+
+    @Benchmark
+    public TimeZone toEntity() {
+        return TimeZoneMapper.toEntity(partialTimeZoneDto);
+    }
+
+    // Regex validation followed by a second parse, as it was done before the single-pass parser
+    @Benchmark
+    public TimeZone toEntityWithRegex() {
+        if (!Pattern.matches("^\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}$", partialTimeZoneDto.getDateTime())
+                || !Pattern.matches("^[+-]\\d{2}:\\d{2}$", partialTimeZoneDto.getOffsetFromUTC())) {
+            throw new IllegalArgumentException();
+        }
+        return new TimeZone(
+                partialTimeZoneDto.getLabel(),
+                LocalDateTime.parse(partialTimeZoneDto.getDateTime()),
+                ZoneOffset.of(partialTimeZoneDto.getOffsetFromUTC())
+        );
+    }
+
+    @Benchmark
+    public String reject() {
+        try {
+            return TimeZoneMapper.toEntity(invalidPartialTimeZoneDto).getLabel();
+        } catch (TimeZoneValidationException e) {
+            return e.getMessage();
+        }
+    }
+
+    // The same rejection with a stack trace, as the domain exceptions captured it before being stackless
+    @Benchmark
+    public String rejectWithStackTrace() {
+        try {
+            return TimeZoneMapper.toEntity(invalidPartialTimeZoneDto).getLabel();
+        } catch (TimeZoneValidationException e) {
+            return new IllegalArgumentException(e.getMessage()).getMessage();
+        }
+    }
+}
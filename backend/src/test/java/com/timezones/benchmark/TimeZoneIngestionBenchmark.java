@@ -0,0 +1,70 @@
+package com.timezones.benchmark;
+
+import com.timezones.domain.exceptions.TimeZoneOverloadException;
+import com.timezones.domain.model.TimeZone;
+import com.timezones.domain.service.TimeZoneIngestionQueue;
+import com.timezones.domain.service.TimeZoneService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Creations by many producers at once, written by the request thread one transaction each, or queued and written
+ * in batches by the ingestion queue. Queueing alone is much faster than any write, so the async producers back off
+ * when the queue is full, like clients honouring Retry-After, and the score is the rate the writer sustains.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class TimeZoneIngestionBenchmark {
+
+    private ConfigurableApplicationContext context;
+
+    private TimeZoneService timeZoneService;
+
+    private TimeZoneIngestionQueue timeZoneIngestionQueue;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkApplication.start(
+                "--spring.main.web-application-type=none",
+                "--timezones.ingestion.enabled=true",
+                "--timezones.ingestion.flush-interval=PT0.05S"
+        );
+        timeZoneService = context.getBean(TimeZoneService.class);
+        timeZoneIngestionQueue = context.getBean(TimeZoneIngestionQueue.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void createSync() {
+        timeZoneService.create(newTimeZone());
+    }
+
+    @Benchmark
+    public Object createAsync() {
+        while (true) {
+            try {
+                return timeZoneIngestionQueue.submit(newTimeZone());
+            } catch (TimeZoneOverloadException e) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+        }
+    }
+
+    private static TimeZone newTimeZone() {
+        return new TimeZone("Europe/Paris", LocalDateTime.of(2024, 3, 3, 1, 2, 3), ZoneOffset.ofHours(1));
+    }
+}
@@ -0,0 +1,52 @@
+package com.timezones.benchmark;
+
+import com.timezones.api.dto.TimeZoneDto;
+import com.timezones.api.mapper.TimeZoneMapper;
+import com.timezones.domain.model.TimeZone;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeZoneMapperBenchmark {
+
+    private TimeZone timeZone;
+
+    @Setup
+    public void setup() {
+        LocalDateTime dateTime = LocalDateTime.of(2024, 3, 3, 1, 2, 3);
+        timeZone = new TimeZone("Europe/Paris", dateTime, ZoneOffset.ofHoursMinutes(4, 25), dateTime, dateTime);
+        timeZone.setId(1L);
+    }
+
+    @Benchmark
+    public TimeZoneDto toDto() {
+        return TimeZoneMapper.toDto(timeZone);
+    }
+
+    // Mapping as it was done before the formatter was shared, kept as the baseline to compare with
+    @Benchmark
+    public TimeZoneDto toDtoWithFormatterPerCall() {
+        TimeZoneDto dto = new TimeZoneDto();
+        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+        dto.setId(timeZone.getId());
+        dto.setLabel(timeZone.getLabel());
+        dto.setDateTime(timeZone.getDateTime().format(dateTimeFormatter));
+        dto.setOffsetFromUTC(
+                timeZone.getOffsetFromUTC() == ZoneOffset.UTC ? "+00:00" : timeZone.getOffsetFromUTC().toString()
+        );
+        dto.setCreatedAt(timeZone.getCreatedAt().format(dateTimeFormatter));
+        dto.setUpdatedAt(timeZone.getUpdatedAt().format(dateTimeFormatter));
+
+        return dto;
+    }
+}
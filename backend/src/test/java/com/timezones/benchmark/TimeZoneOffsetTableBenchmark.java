@@ -0,0 +1,153 @@
+package com.timezones.benchmark;
+
+import com.timezones.api.dto.TimeZoneLocalTimeDto;
+import com.timezones.api.mapper.TimeZoneMapper;
+import com.timezones.domain.exceptions.TimeZoneNotFoundException;
+import com.timezones.domain.model.TimeZoneConversions;
+import com.timezones.domain.model.TimeZoneSnapshot;
+import com.timezones.domain.service.TimeZoneOffsetTable;
+import com.timezones.domain.service.TimeZoneService;
+import com.timezones.domain.service.TimeZoneTransitions;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneRules;
+import java.time.zone.ZoneRulesProvider;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimeZoneOffsetTableBenchmark {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    @Param({ "5000" })
+    private int rows;
+
+    @Param({ "100000" })
+    private int conversions;
+
+    private ConfigurableApplicationContext context;
+
+    private TimeZoneOffsetTable timeZoneOffsetTable;
+
+    private List<TimeZoneSnapshot> timeZones;
+
+    private TimeZoneService timeZoneService;
+
+    private long[] seconds;
+
+    private long[] sourceIds;
+
+    private long[] targetIds;
+
+    private ZoneRules[] zoneRules;
+
+    private TimeZoneTransitions[] zoneTransitions;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkApplication.start("--spring.main.web-application-type=none");
+        timeZoneOffsetTable = context.getBean(TimeZoneOffsetTable.class);
+        List<Long> ids = BenchmarkApplication.seed(context, rows);
+        timeZoneService = context.getBean(TimeZoneService.class);
+        timeZones = timeZoneService.getAll();
+
+        seconds = new long[conversions];
+        sourceIds = new long[conversions];
+        targetIds = new long[conversions];
+        long epochSecond = Instant.now().getEpochSecond();
+        for (int i = 0; i < conversions; i++) {
+            seconds[i] = epochSecond + i;
+            sourceIds[i] = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+            targetIds[i] = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        }
+
+        List<String> zoneIds = new ArrayList<>(ZoneRulesProvider.getAvailableZoneIds());
+        zoneRules = new ZoneRules[conversions];
+        zoneTransitions = new TimeZoneTransitions[conversions];
+        for (int i = 0; i < conversions; i++) {
+            String zoneId = zoneIds.get(i % zoneIds.size());
+            zoneRules[i] = ZoneRulesProvider.getRules(zoneId, false);
+            zoneTransitions[i] = timeZoneOffsetTable.transitionsOf(zoneId);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TimeZoneLocalTimeDto> localTimesOfAll() throws TimeZoneNotFoundException {
+        return TimeZoneMapper.toDto(timeZoneOffsetTable.localTimesAt(Instant.now(), null));
+    }
+
+    @Benchmark
+    public TimeZoneConversions convert() throws TimeZoneNotFoundException {
+        return timeZoneOffsetTable.convert(seconds, sourceIds, targetIds);
+    }
+
+    @Benchmark
+    public int[] offsetsWithTransitions() {
+        int[] offsetSeconds = new int[conversions];
+        for (int i = 0; i < conversions; i++) {
+            offsetSeconds[i] = zoneTransitions[i].offsetAt(seconds[i]);
+        }
+        return offsetSeconds;
+    }
+
+    // The same offsets asked to the tz-database rules of the JDK
+    @Benchmark
+    public int[] offsetsWithZoneRules() {
+        int[] offsetSeconds = new int[conversions];
+        for (int i = 0; i < conversions; i++) {
+            offsetSeconds[i] = zoneRules[i].getOffset(Instant.ofEpochSecond(seconds[i])).getTotalSeconds();
+        }
+        return offsetSeconds;
+    }
+
+    // What scheduling jobs did through the API, one cached getById per time zone of each conversion
+    @Benchmark
+    public LocalDateTime[] convertWithGetById() throws TimeZoneNotFoundException {
+        LocalDateTime[] localDateTimes = new LocalDateTime[conversions];
+        for (int i = 0; i < conversions; i++) {
+            ZoneOffset source = timeZoneService.getById(sourceIds[i]).getOffsetFromUTC();
+            ZoneOffset target = timeZoneService.getById(targetIds[i]).getOffsetFromUTC();
+            localDateTimes[i] = LocalDateTime.ofEpochSecond(seconds[i], 0, source)
+                    .atOffset(source)
+                    .withOffsetSameInstant(target)
+                    .toLocalDateTime();
+        }
+        return localDateTimes;
+    }
+
+    // What clients did with the downloaded list, kept as the baseline to compare with
+    @Benchmark
+    public List<TimeZoneLocalTimeDto> localTimesWithZonedDateTime() {
+        Instant now = Instant.now();
+        List<TimeZoneLocalTimeDto> localTimes = new ArrayList<>(timeZones.size());
+        for (TimeZoneSnapshot timeZone : timeZones) {
+            ZonedDateTime localTime = now.atZone(timeZone.getOffsetFromUTC());
+            localTimes.add(new TimeZoneLocalTimeDto(
+                    timeZone.getId(),
+                    timeZone.getLabel(),
+                    localTime.format(DATE_TIME_FORMATTER),
+                    TimeZoneMapper.formatOffset(timeZone.getOffsetFromUTC())
+            ));
+        }
+        return localTimes;
+    }
+}
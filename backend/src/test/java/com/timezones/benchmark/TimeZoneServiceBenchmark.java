@@ -0,0 +1,86 @@
+package com.timezones.benchmark;
+
+import com.timezones.domain.exceptions.TimeZoneNotFoundException;
+import com.timezones.domain.exceptions.TimeZoneVersionException;
+import com.timezones.domain.model.TimeZone;
+import com.timezones.domain.model.TimeZonePage;
+import com.timezones.domain.model.TimeZoneSnapshot;
+import com.timezones.domain.service.TimeZoneService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimeZoneServiceBenchmark {
+
+    @Param({ "1000" })
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+
+    private TimeZoneService timeZoneService;
+
+    private List<Long> ids;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkApplication.start("--spring.main.web-application-type=none");
+        timeZoneService = context.getBean(TimeZoneService.class);
+        ids = BenchmarkApplication.seed(context, rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TimeZoneSnapshot> getAll() {
+        return timeZoneService.getAll();
+    }
+
+    @Benchmark
+    public TimeZonePage getPage() {
+        return timeZoneService.getPage(null, 50, false);
+    }
+
+    @Benchmark
+    public TimeZoneSnapshot getById() throws TimeZoneNotFoundException {
+        return timeZoneService.getById(randomId());
+    }
+
+    @Benchmark
+    public void create() {
+        timeZoneService.create(newTimeZone());
+    }
+
+    @Benchmark
+    public void update() throws TimeZoneNotFoundException, TimeZoneVersionException {
+        timeZoneService.update(randomId(), newTimeZone(), null);
+    }
+
+    @Benchmark
+    public void createThenDelete() throws TimeZoneNotFoundException, TimeZoneVersionException {
+        TimeZone timeZone = newTimeZone();
+        timeZoneService.create(timeZone);
+        timeZoneService.delete(timeZone.getId(), null);
+    }
+
+    private Long randomId() {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    private static TimeZone newTimeZone() {
+        return new TimeZone("Europe/Paris", LocalDateTime.of(2024, 3, 3, 1, 2, 3), ZoneOffset.ofHours(1));
+    }
+}
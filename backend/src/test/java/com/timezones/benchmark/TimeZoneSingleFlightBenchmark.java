@@ -0,0 +1,69 @@
+package com.timezones.benchmark;
+
+import com.timezones.domain.exceptions.TimeZoneNotFoundException;
+import com.timezones.domain.model.TimeZoneChange;
+import com.timezones.domain.model.TimeZoneSnapshot;
+import com.timezones.domain.service.TimeZoneCache;
+import com.timezones.domain.service.TimeZoneService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Many threads reading the same data at once, as after a deploy or a cache flush, with the identical reads
+ * coalesced or not (a zero timeout turns the coalescing off).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class TimeZoneSingleFlightBenchmark {
+
+    @Param({ "1000" })
+    private int rows;
+
+    @Param({ "5s", "0s" })
+    private String timeout;
+
+    private ConfigurableApplicationContext context;
+
+    private TimeZoneService timeZoneService;
+
+    private TimeZoneCache timeZoneCache;
+
+    private Long hotId;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkApplication.start(
+                "--spring.main.web-application-type=none",
+                "--timezones.single-flight.timeout=" + timeout
+        );
+        timeZoneService = context.getBean(TimeZoneService.class);
+        timeZoneCache = context.getBean(TimeZoneCache.class);
+        hotId = BenchmarkApplication.seed(context, rows).get(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TimeZoneSnapshot> getAll() {
+        return timeZoneService.getAll();
+    }
+
+    // Every read misses the cache, like the reads of a popular time zone right after its eviction. The misses of an
+    // id are coalesced by the cache itself, whatever the timeout
+    @Benchmark
+    public TimeZoneSnapshot getByIdMissingFromCache() throws TimeZoneNotFoundException {
+        timeZoneCache.onChange(new TimeZoneChange(TimeZoneChange.Type.UPDATED, hotId, null));
+        return timeZoneService.getById(hotId);
+    }
+}
@@ -0,0 +1,107 @@
+package com.timezones.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.timezones.api.dto.TimeZoneDto;
+import com.timezones.api.mapper.TimeZoneMapper;
+import com.timezones.api.mapper.TimeZoneProtobufCodec;
+import com.timezones.domain.model.TimeZone;
+import com.timezones.domain.model.TimeZonePage;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compares the JSON list of GET /api/timezones with its Protocol Buffers encoding, both ways. Decoding JSON includes
+ * parsing the date-times and offsets, so that both sides end with the same values. The sizes of both responses,
+ * plain and gzipped, are printed by the setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimeZoneWireFormatBenchmark {
+
+    @Param({ "10000" })
+    private int rows;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private List<TimeZone> timeZones;
+
+    private byte[] json;
+
+    private byte[] protobuf;
+
+    @Setup
+    public void setup() throws IOException {
+        timeZones = new ArrayList<>(rows);
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 3, 1, 2, 3);
+        for (int i = 0; i < rows; i++) {
+            TimeZone timeZone = new TimeZone(
+                    "Europe/Paris",
+                    createdAt.plusMinutes(i),
+                    ZoneOffset.ofTotalSeconds((i % 53 - 26) * 1800),
+                    createdAt.plusSeconds(i),
+                    createdAt.plusSeconds(2L * i)
+            );
+            timeZone.setId((long) i + 1);
+            timeZone.setVersion((long) i % 3);
+            timeZones.add(timeZone);
+        }
+        json = this.encodeJson();
+        protobuf = this.encodeProtobuf();
+        System.out.printf("%n%d rows: JSON %d bytes (%d gzipped), Protocol Buffers %d bytes (%d gzipped)%n",
+                rows, json.length, gzip(json).length, protobuf.length, gzip(protobuf).length);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        return objectMapper.writeValueAsBytes(timeZones.stream().map(TimeZoneMapper::toDto).toList());
+    }
+
+    @Benchmark
+    public byte[] encodeProtobuf() {
+        return TimeZoneProtobufCodec.encode(new TimeZonePage(timeZones, null, null));
+    }
+
+    @Benchmark
+    public List<TimeZone> decodeJson() throws IOException {
+        TimeZoneDto[] timeZoneDtos = objectMapper.readValue(json, TimeZoneDto[].class);
+        List<TimeZone> decoded = new ArrayList<>(timeZoneDtos.length);
+        for (TimeZoneDto timeZoneDto : timeZoneDtos) {
+            TimeZone timeZone = new TimeZone(
+                    timeZoneDto.getLabel(),
+                    LocalDateTime.parse(timeZoneDto.getDateTime()),
+                    ZoneOffset.of(timeZoneDto.getOffsetFromUTC()),
+                    LocalDateTime.parse(timeZoneDto.getCreatedAt()),
+                    LocalDateTime.parse(timeZoneDto.getUpdatedAt())
+            );
+            timeZone.setId(timeZoneDto.getId());
+            timeZone.setVersion(timeZoneDto.getVersion());
+            decoded.add(timeZone);
+        }
+        return decoded;
+    }
+
+    @Benchmark
+    public List<TimeZone> decodeProtobuf() {
+        return TimeZoneProtobufCodec.decode(protobuf).getTimeZones();
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(bytes);
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,42 @@
+package com.timezones.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.timezones.api.repository.TimeZoneRepository;
+import com.timezones.domain.model.TimeZone;
+import com.timezones.domain.model.TimeZoneChange;
+import com.timezones.domain.service.TimeZoneListCache;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+public class TimeZoneListCacheTest {
+
+    @Test
+    public void whenBurstOfChanges_thenKeepASingleRebuildPending() {
+        // Given
+        TimeZoneRepository timeZoneRepository = mock(TimeZoneRepository.class);
+        LocalDateTime dateTime = LocalDateTime.of(2024, 1, 1, 0, 0);
+        when(timeZoneRepository.findAll()).thenReturn(List.of(
+                new TimeZone("UTC", dateTime, ZoneOffset.UTC, dateTime, dateTime)
+        ));
+        List<Runnable> rebuilds = new ArrayList<>();
+        TimeZoneListCache timeZoneListCache = new TimeZoneListCache(timeZoneRepository, new ObjectMapper(), rebuilds::add);
+
+        // When
+        for (long id = 1; id <= 100; id++) {
+            timeZoneListCache.onChange(new TimeZoneChange(TimeZoneChange.Type.UPDATED, id, null));
+        }
+        rebuilds.remove(0).run();
+        timeZoneListCache.onChange(new TimeZoneChange(TimeZoneChange.Type.UPDATED, 1L, null));
+
+        // Then
+        assertEquals(1, rebuilds.size());
+        verify(timeZoneRepository, times(1)).findAll();
+    }
+}
@@ -0,0 +1,54 @@
+package com.timezones.service;
+
+import com.timezones.domain.exceptions.TimeZoneNotFoundException;
+import com.timezones.domain.exceptions.TimeZoneVersionException;
+import com.timezones.domain.model.TimeZone;
+import com.timezones.domain.service.TimeZoneService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Through the Spring bean, so that the @Modifying queries run in the transactions of the proxy
+@SpringBootTest
+class TimeZoneServiceIntegrationTest {
+
+    @Autowired
+    private TimeZoneService timeZoneService;
+
+    @Test
+    void whenUpdateWithoutVersion_thenUpdateTimeZone() throws TimeZoneNotFoundException, TimeZoneVersionException {
+        // Given
+        TimeZone timeZone = newTimeZone("Europe/Paris");
+        timeZoneService.create(timeZone);
+
+        // When
+        timeZoneService.update(timeZone.getId(), newTimeZone("Europe/Berlin"), null);
+
+        // Then
+        assertEquals("Europe/Berlin", timeZoneService.getById(timeZone.getId()).getLabel());
+    }
+
+    @Test
+    void whenDeleteWithoutVersion_thenDeleteTimeZone() throws TimeZoneNotFoundException, TimeZoneVersionException {
+        // Given
+        TimeZone timeZone = newTimeZone("Europe/Paris");
+        timeZoneService.create(timeZone);
+        timeZoneService.getById(timeZone.getId());
+
+        // When
+        timeZoneService.delete(timeZone.getId(), null);
+
+        // Then
+        assertThrows(TimeZoneNotFoundException.class, () -> timeZoneService.getById(timeZone.getId()));
+    }
+
+    private static TimeZone newTimeZone(String label) {
+        return new TimeZone(label, LocalDateTime.of(2024, 1, 1, 12, 0), ZoneOffset.ofHours(1));
+    }
+}
@@ -1,25 +1,54 @@
 package com.timezones.service;
 
 import com.timezones.api.repository.TimeZoneRepository;
+import com.timezones.api.repository.TimeZoneTombstoneRepository;
+import com.timezones.configuration.TimeZonesProperties;
+import com.timezones.domain.exceptions.TimeZoneBatchSizeException;
+import com.timezones.domain.exceptions.TimeZoneCursorException;
 import com.timezones.domain.exceptions.TimeZoneDateTimeException;
+import com.timezones.domain.exceptions.TimeZoneDateTimeRangeException;
 import com.timezones.domain.exceptions.TimeZoneLabelException;
 import com.timezones.domain.exceptions.TimeZoneNotFoundException;
 import com.timezones.domain.exceptions.TimeZoneOffsetException;
+import com.timezones.domain.exceptions.TimeZonePageSizeException;
+import com.timezones.domain.exceptions.TimeZoneVersionException;
+import com.timezones.domain.exceptions.TimeZoneWatermarkExpiredException;
 import com.timezones.domain.model.TimeZone;
+import com.timezones.domain.model.TimeZoneBatchResult;
+import com.timezones.domain.model.TimeZoneChange;
+import com.timezones.domain.model.TimeZoneChangeSet;
+import com.timezones.domain.model.TimeZonePage;
+import com.timezones.domain.model.TimeZoneSnapshot;
+import com.timezones.domain.model.TimeZoneTombstone;
+import com.timezones.domain.service.TimeZoneCache;
 import com.timezones.domain.service.TimeZoneService;
+import com.timezones.domain.service.TimeZoneSingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -30,6 +59,23 @@ public class TimeZoneServiceTest {
     @Mock
     private TimeZoneRepository timeZoneRepository;
 
+    @Spy
+    private TimeZonesProperties properties = new TimeZonesProperties();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private TimeZoneCache timeZoneCache = new TimeZoneCache(properties, meterRegistry);
+
+    @Spy
+    private TimeZoneSingleFlight singleFlight = new TimeZoneSingleFlight(properties, meterRegistry);
+
+    @Mock
+    private TimeZoneTombstoneRepository timeZoneTombstoneRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TimeZoneService timeZoneService;
 
@@ -39,7 +85,7 @@ public class TimeZoneServiceTest {
         when(timeZoneRepository.findAll()).thenReturn(new ArrayList<>());
 
         // When
-        List<TimeZone> result = timeZoneService.getAll();
+        List<TimeZoneSnapshot> result = timeZoneService.getAll();
 
         // Then
         verify(timeZoneRepository, times(1)).findAll();
@@ -49,16 +95,133 @@ public class TimeZoneServiceTest {
     @Test
     public void whenThereAreSomeTimeZones_thenReturnAllTimeZones() {
         // Given
-        List<TimeZone> timeZones = List.of(new TimeZone(), new TimeZone());
+        List<TimeZone> timeZones = List.of(fullTimeZoneWithId(1L), fullTimeZoneWithId(2L));
         when(timeZoneRepository.findAll()).thenReturn(timeZones);
 
         // When
-        List<TimeZone> result = timeZoneService.getAll();
+        List<TimeZoneSnapshot> result = timeZoneService.getAll();
 
         // Then
         verify(timeZoneRepository, times(1)).findAll();
         assertEquals(2, result.size());
+        assertEquals(new TimeZoneSnapshot(timeZones.get(1)), result.get(1));
+        assertThrows(UnsupportedOperationException.class, () -> result.remove(0));
+    }
+
+    @Test
+    public void whenFirstPageIsNotTheLastOne_thenReturnNextCursor() {
+        // Given
+        List<TimeZone> timeZones = List.of(timeZoneWithId(1L), timeZoneWithId(2L), timeZoneWithId(3L));
+        when(timeZoneRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(3))).thenReturn(timeZones);
+
+        // When
+        TimeZonePage result = timeZoneService.getPage(null, 2, false);
+
+        // Then
+        assertEquals(List.of(timeZones.get(0), timeZones.get(1)), result.getTimeZones());
+        assertNotNull(result.getNext());
+        assertNull(result.getTotal());
+        verify(timeZoneRepository, times(0)).count();
+    }
+
+    @Test
+    public void whenNextCursorIsGiven_thenReturnFollowingPage() {
+        // Given
+        List<TimeZone> firstPage = List.of(timeZoneWithId(1L), timeZoneWithId(2L), timeZoneWithId(3L));
+        List<TimeZone> secondPage = List.of(timeZoneWithId(3L));
+        when(timeZoneRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(3))).thenReturn(firstPage);
+        when(timeZoneRepository.findByIdGreaterThanOrderByIdAsc(2L, Limit.of(3))).thenReturn(secondPage);
+        when(timeZoneRepository.count()).thenReturn(3L);
+
+        // When
+        String next = timeZoneService.getPage(null, 2, false).getNext();
+        TimeZonePage result = timeZoneService.getPage(next, 2, true);
+
+        // Then
+        assertEquals(secondPage, result.getTimeZones());
+        assertNull(result.getNext());
+        assertEquals(3L, result.getTotal());
+    }
+
+    @Test
+    public void whenPageSizeIsAboveMaximum_thenCapPageSize() {
+        // Given
+        properties.getPagination().setMaxSize(10);
+        when(timeZoneRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(11))).thenReturn(new ArrayList<>());
+
+        // When
+        TimeZonePage result = timeZoneService.getPage(null, 1000, false);
+
+        // Then
+        verify(timeZoneRepository, times(1)).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(11));
+        assertEquals(0, result.getTimeZones().size());
+    }
+
+    @Test
+    public void whenPageSizeIsNotPositive_thenThrow() {
+        assertThrows(TimeZonePageSizeException.class, () -> timeZoneService.getPage(null, 0, false));
+        verify(timeZoneRepository, times(0)).findByIdGreaterThanOrderByIdAsc(any(), any());
+    }
+
+    @Test
+    public void whenCursorIsInvalid_thenThrow() {
+        assertThrows(TimeZoneCursorException.class, () -> timeZoneService.getPage("not a cursor", 2, false));
+        verify(timeZoneRepository, times(0)).findByIdGreaterThanOrderByIdAsc(any(), any());
+    }
+
+    @Test
+    public void whenSearchByLabelPrefix_thenUsePrefixQuery() {
+        // Given
+        List<TimeZone> timeZones = List.of(timeZoneWithId(1L));
+        when(timeZoneRepository.findByLabelStartingWithOrderByLabelAscIdAsc("Europe/")).thenReturn(timeZones);
+
+        // When
+        List<TimeZone> result = timeZoneService.getByLabel("Europe/", true);
+
+        // Then
         assertEquals(timeZones, result);
+        verify(timeZoneRepository, times(0)).findByLabelOrderByIdAsc(any());
+    }
+
+    @Test
+    public void whenSearchByEmptyLabel_thenThrow() {
+        assertThrows(TimeZoneLabelException.class, () -> timeZoneService.getByLabel("", true));
+    }
+
+    @Test
+    public void whenSearchByReversedDateTimeRange_thenThrow() {
+        LocalDateTime dateTime = LocalDateTime.of(2024, 3, 3, 1, 2, 3);
+
+        assertThrows(
+                TimeZoneDateTimeRangeException.class,
+                () -> timeZoneService.getByDateTimeRange(dateTime, dateTime.minusSeconds(1))
+        );
+        verify(timeZoneRepository, times(0)).findByDateTimeBetweenOrderByDateTimeAscIdAsc(any(), any());
+    }
+
+    @Test
+    public void whenChangesAreAskedSinceWatermark_thenReturnUpdatedAndDeletedTimeZones() {
+        // Given
+        LocalDateTime since = LocalDateTime.now().minusMinutes(1);
+        List<TimeZone> timeZones = List.of(timeZoneWithId(1L));
+        when(timeZoneRepository.findByUpdatedAtAfterOrderByUpdatedAtAscIdAsc(since)).thenReturn(timeZones);
+        when(timeZoneTombstoneRepository.findIdsDeletedAfter(since)).thenReturn(List.of(2L));
+
+        // When
+        TimeZoneChangeSet result = timeZoneService.getChangesSince(since);
+
+        // Then
+        assertEquals(timeZones, result.getTimeZones());
+        assertEquals(List.of(2L), result.getDeletedIds());
+        assertTrue(result.getWatermark().isAfter(since));
+        verify(timeZoneRepository, times(0)).findAll();
+    }
+
+    @Test
+    public void whenWatermarkIsOlderThanTombstones_thenThrow() {
+        LocalDateTime since = LocalDateTime.now().minus(properties.getChanges().getTombstoneRetention()).minusDays(1);
+
+        assertThrows(TimeZoneWatermarkExpiredException.class, () -> timeZoneService.getChangesSince(since));
     }
 
     @Test
@@ -81,12 +244,11 @@ public class TimeZoneServiceTest {
     public void whenSpecificTimeZoneExists_thenReturn() throws TimeZoneNotFoundException {
         // Given
         Long id = 1L;
-        TimeZone timeZone = new TimeZone();
-        timeZone.setId(id);
+        TimeZone timeZone = fullTimeZoneWithId(id);
         when(timeZoneRepository.findById(id)).thenReturn(Optional.of(timeZone));
 
         // When
-        TimeZone result = timeZoneService.getById(id);
+        TimeZoneSnapshot result = timeZoneService.getById(id);
 
         // Then
         verify(timeZoneRepository, times(1)).findById(id);
@@ -94,6 +256,184 @@ public class TimeZoneServiceTest {
         assertEquals(id, result.getId());
     }
 
+    @Test
+    public void whenSpecificTimeZoneIsReadTwice_thenHitDatabaseOnce() throws TimeZoneNotFoundException {
+        // Given
+        Long id = 1L;
+        when(timeZoneRepository.findById(id)).thenReturn(Optional.of(fullTimeZoneWithId(id)));
+
+        // When
+        TimeZoneSnapshot first = timeZoneService.getById(id);
+        TimeZoneSnapshot second = timeZoneService.getById(id);
+
+        // Then
+        verify(timeZoneRepository, times(1)).findById(id);
+        assertSame(first, second);
+        assertEquals(1, timeZoneCache.stats().hitCount());
+        assertEquals(1, timeZoneCache.stats().missCount());
+    }
+
+    @Test
+    public void whenSameTimeZoneIsReadConcurrently_thenShareOneQuery() throws Exception {
+        // Given
+        Long id = 1L;
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch queryReleased = new CountDownLatch(1);
+        when(timeZoneRepository.findById(id)).thenAnswer(invocation -> {
+            queryStarted.countDown();
+            queryReleased.await();
+            return Optional.of(fullTimeZoneWithId(id));
+        });
+        FutureTask<TimeZoneSnapshot> first = new FutureTask<>(() -> timeZoneService.getById(id));
+        new Thread(first).start();
+        queryStarted.await();
+
+        // When
+        List<FutureTask<TimeZoneSnapshot>> others = new ArrayList<>();
+        List<Thread> waiters = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            FutureTask<TimeZoneSnapshot> other = new FutureTask<>(() -> timeZoneService.getById(id));
+            Thread waiter = new Thread(other);
+            waiter.start();
+            others.add(other);
+            waiters.add(waiter);
+        }
+        while (waiters.stream().anyMatch(waiter -> waiter.getState() != Thread.State.TIMED_WAITING)) {
+            Thread.sleep(5);
+        }
+        queryReleased.countDown();
+
+        // Then
+        TimeZoneSnapshot result = first.get(5, TimeUnit.SECONDS);
+        for (FutureTask<TimeZoneSnapshot> other : others) {
+            assertSame(result, other.get(5, TimeUnit.SECONDS));
+        }
+        verify(timeZoneRepository, times(1)).findById(id);
+        assertEquals(2, meterRegistry.counter(TimeZoneSingleFlight.COALESCED, "query", "getById").count());
+    }
+
+    @Test
+    public void whenSharedTimeZoneQueryIsTooSlow_thenQueryAgain() throws Exception {
+        // Given
+        Long id = 1L;
+        properties.getSingleFlight().setTimeout(Duration.ofMillis(50));
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch queryReleased = new CountDownLatch(1);
+        when(timeZoneRepository.findById(id))
+                .thenAnswer(invocation -> {
+                    queryStarted.countDown();
+                    queryReleased.await();
+                    return Optional.of(fullTimeZoneWithId(id));
+                })
+                .thenReturn(Optional.of(fullTimeZoneWithId(id)));
+        FutureTask<TimeZoneSnapshot> first = new FutureTask<>(() -> timeZoneService.getById(id));
+        new Thread(first).start();
+        queryStarted.await();
+
+        // When
+        TimeZoneSnapshot result = timeZoneService.getById(id);
+
+        // Then
+        assertEquals(id, result.getId());
+        assertEquals(1, meterRegistry.counter(TimeZoneSingleFlight.TIMEOUTS, "query", "getById").count());
+        queryReleased.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        verify(timeZoneRepository, times(2)).findById(id);
+    }
+
+    @Test
+    public void whenTimeZoneLoadFailsWithError_thenDoNotCacheTheFailure() throws Exception {
+        // Given
+        Long id = 1L;
+        when(timeZoneRepository.findById(id))
+                .thenThrow(new OutOfMemoryError("load"))
+                .thenReturn(Optional.of(fullTimeZoneWithId(id)));
+
+        // When
+        assertThrows(OutOfMemoryError.class, () -> timeZoneService.getById(id));
+
+        // Then
+        assertEquals(id, timeZoneService.getById(id).getId());
+        verify(timeZoneRepository, times(2)).findById(id);
+    }
+
+    @Test
+    public void whenSharedQueryIsTooSlow_thenQueryAgain() throws Exception {
+        // Given
+        properties.getSingleFlight().setTimeout(Duration.ofMillis(50));
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch queryReleased = new CountDownLatch(1);
+        when(timeZoneRepository.findAll())
+                .thenAnswer(invocation -> {
+                    queryStarted.countDown();
+                    queryReleased.await();
+                    return List.of(fullTimeZoneWithId(1L));
+                })
+                .thenReturn(List.of(fullTimeZoneWithId(1L)));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<List<TimeZoneSnapshot>> first = executor.submit(() -> timeZoneService.getAll());
+            queryStarted.await();
+
+            // When
+            List<TimeZoneSnapshot> result = timeZoneService.getAll();
+
+            // Then
+            assertEquals(1, result.size());
+            assertEquals(1, meterRegistry.counter(TimeZoneSingleFlight.TIMEOUTS, "query", "getAll").count());
+            queryReleased.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            verify(timeZoneRepository, times(2)).findAll();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void whenTimeZoneIsDeleted_thenInvalidateCacheOnlyOnceCommitted()
+            throws TimeZoneNotFoundException, TimeZoneVersionException {
+        // Given
+        Long id = 1L;
+        ArgumentCaptor<TimeZoneChange> changeCaptor = ArgumentCaptor.forClass(TimeZoneChange.class);
+        when(timeZoneRepository.findById(id)).thenReturn(Optional.of(fullTimeZoneWithId(id)));
+        when(timeZoneRepository.deleteOneById(id)).thenReturn(1);
+        timeZoneService.getById(id);
+
+        // When
+        timeZoneService.delete(id, null);
+
+        // Then
+        assertNotNull(timeZoneCache.get(id));
+        verify(eventPublisher).publishEvent(changeCaptor.capture());
+        timeZoneCache.onChange(changeCaptor.getValue());
+        assertNull(timeZoneCache.get(id));
+    }
+
+    @Test
+    public void whenTimeZoneChangesDuringItsLoad_thenDoNotCacheThePreviousRow() throws Exception {
+        // Given
+        Long id = 1L;
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch queryReleased = new CountDownLatch(1);
+        when(timeZoneRepository.findById(id)).thenAnswer(invocation -> {
+            queryStarted.countDown();
+            queryReleased.await();
+            return Optional.of(fullTimeZoneWithId(id));
+        });
+        FutureTask<TimeZoneSnapshot> load = new FutureTask<>(() -> timeZoneService.getById(id));
+        new Thread(load).start();
+        queryStarted.await();
+
+        // When
+        timeZoneCache.onChange(new TimeZoneChange(TimeZoneChange.Type.UPDATED, id, null));
+        queryReleased.countDown();
+
+        // Then
+        assertEquals(id, load.get(5, TimeUnit.SECONDS).getId());
+        assertNull(timeZoneCache.get(id));
+    }
+
     @Test
     public void whenCreateTimeZoneWithNullLabel_thenThrow() {
         // Given
@@ -177,6 +517,44 @@ public class TimeZoneServiceTest {
         assertEquals(ZoneOffset.UTC, capturedTimeZone.getOffsetFromUTC());
     }
 
+    @Test
+    public void whenBatchWithValidOperations_thenApplyAllAndReportUnknownIds() {
+        // Given
+        LocalDateTime dateTime = LocalDateTime.of(2024, Month.JANUARY, 1, 0, 0, 0);
+        TimeZone creation = new TimeZone("created", dateTime, ZoneOffset.UTC);
+        TimeZone update = new TimeZone("updated", dateTime, ZoneOffset.ofHours(2));
+        update.setId(1L);
+        TimeZone missingUpdate = new TimeZone("missing", dateTime, ZoneOffset.UTC);
+        missingUpdate.setId(2L);
+        TimeZone timeZoneFromDb = timeZoneWithId(1L);
+        when(timeZoneRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(timeZoneFromDb));
+        when(timeZoneRepository.findExistingIds(List.of(3L, 4L))).thenReturn(List.of(3L));
+
+        // When
+        TimeZoneBatchResult result =
+                timeZoneService.batch(List.of(creation), List.of(update, missingUpdate), List.of(3L, 4L));
+
+        // Then
+        verify(timeZoneRepository, times(1)).save(creation);
+        assertNotNull(creation.getCreatedAt());
+        assertEquals("updated", timeZoneFromDb.getLabel());
+        assertEquals(ZoneOffset.ofHours(2), timeZoneFromDb.getOffsetFromUTC());
+        assertNotNull(timeZoneFromDb.getUpdatedAt());
+        verify(timeZoneRepository, times(1)).deleteByIds(Set.of(3L));
+        assertEquals(Set.of(2L), result.getUpdatesNotFound());
+        assertEquals(Set.of(4L), result.getDeletionsNotFound());
+    }
+
+    @Test
+    public void whenBatchIsTooLarge_thenThrow() {
+        // Given
+        properties.getBatch().setMaxSize(1);
+
+        // When and Then
+        assertThrows(TimeZoneBatchSizeException.class, () -> timeZoneService.batch(List.of(), List.of(), List.of(1L, 2L)));
+        verify(timeZoneRepository, times(0)).deleteByIds(any());
+    }
+
     @Test
     public void whenUpdateNonExistingTimeZone_thenThrow() {
         // Given
@@ -186,17 +564,12 @@ public class TimeZoneServiceTest {
                 LocalDateTime.of(2024, Month.JANUARY, 1, 0, 0, 0),
                 ZoneOffset.UTC
         );
-        when(timeZoneRepository.findById(id)).thenReturn(Optional.empty());
+        when(timeZoneRepository.updateById(eq(id), any(), any(), any(), any())).thenReturn(0);
 
-        try {
-            // When
-            timeZoneService.update(id, timeZone);
-        } catch (Exception e) {
-            // Then
-            verify(timeZoneRepository, times(1)).findById(id);
-            assertInstanceOf(TimeZoneNotFoundException.class, e);
-            verify(timeZoneRepository, times(0)).save(timeZone);
-        }
+        // When and Then
+        assertThrows(TimeZoneNotFoundException.class, () -> timeZoneService.update(id, timeZone, null));
+        verify(timeZoneRepository, times(0)).findById(id);
+        verify(timeZoneRepository, times(0)).save(timeZone);
     }
 
     @Test
@@ -207,12 +580,11 @@ public class TimeZoneServiceTest {
 
         try {
             // When
-            timeZoneService.update(id, timeZone);
+            timeZoneService.update(id, timeZone, null);
         } catch (Exception e) {
             // Then
             assertInstanceOf(TimeZoneLabelException.class, e);
-            verify(timeZoneRepository, times(0)).findById(id);
-            verify(timeZoneRepository, times(0)).save(timeZone);
+            verify(timeZoneRepository, times(0)).updateById(any(), any(), any(), any(), any());
         }
     }
 
@@ -224,12 +596,11 @@ public class TimeZoneServiceTest {
 
         try {
             // When
-            timeZoneService.update(id, timeZone);
+            timeZoneService.update(id, timeZone, null);
         } catch (Exception e) {
             // Then
             assertInstanceOf(TimeZoneLabelException.class, e);
-            verify(timeZoneRepository, times(0)).findById(id);
-            verify(timeZoneRepository, times(0)).save(timeZone);
+            verify(timeZoneRepository, times(0)).updateById(any(), any(), any(), any(), any());
         }
     }
 
@@ -241,12 +612,11 @@ public class TimeZoneServiceTest {
 
         try {
             // When
-            timeZoneService.update(id, timeZone);
+            timeZoneService.update(id, timeZone, null);
         } catch (Exception e) {
             // Then
             assertInstanceOf(TimeZoneDateTimeException.class, e);
-            verify(timeZoneRepository, times(0)).findById(id);
-            verify(timeZoneRepository, times(0)).save(timeZone);
+            verify(timeZoneRepository, times(0)).updateById(any(), any(), any(), any(), any());
         }
     }
 
@@ -258,74 +628,95 @@ public class TimeZoneServiceTest {
 
         try {
             // When
-            timeZoneService.update(id, timeZone);
+            timeZoneService.update(id, timeZone, null);
         } catch (Exception e) {
             // Then
             assertInstanceOf(TimeZoneOffsetException.class, e);
-            verify(timeZoneRepository, times(0)).findById(id);
-            verify(timeZoneRepository, times(0)).save(timeZone);
+            verify(timeZoneRepository, times(0)).updateById(any(), any(), any(), any(), any());
         }
     }
 
     @Test
-    public void whenUpdateTimeZoneWithValidFields_thenSucceed() throws TimeZoneNotFoundException {
+    public void whenUpdateTimeZoneWithValidFields_thenSucceed() throws TimeZoneNotFoundException, TimeZoneVersionException {
         // Given
-        ArgumentCaptor<TimeZone> timeZoneCaptor = ArgumentCaptor.forClass(TimeZone.class);
+        ArgumentCaptor<LocalDateTime> updatedAtCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
         Long id = 1L;
-        TimeZone timeZone = new TimeZone(
-                "label",
-                LocalDateTime.of(2024, Month.JANUARY, 1, 0, 0, 0),
-                ZoneOffset.UTC,
-                LocalDateTime.of(2024, Month.JANUARY, 1, 0, 0, 0),
-                null
-        );
-        when(timeZoneRepository.findById(id)).thenReturn(Optional.of(timeZone));
-        when(timeZoneRepository.save(timeZone)).thenReturn(timeZone);
+        LocalDateTime dateTime = LocalDateTime.of(2024, Month.JANUARY, 1, 0, 0, 0);
+        TimeZone timeZone = new TimeZone("label", dateTime, ZoneOffset.UTC, dateTime, null);
+        when(timeZoneRepository.updateById(eq(id), any(), any(), any(), any())).thenReturn(1);
 
         // When
-        timeZoneService.update(id, timeZone);
+        timeZoneService.update(id, timeZone, null);
 
         // Then
-        verify(timeZoneRepository, times(1)).findById(id);
-        verify(timeZoneRepository, times(1)).save(timeZoneCaptor.capture());
-        TimeZone capturedTimeZone = timeZoneCaptor.getValue();
+        verify(timeZoneRepository, times(1))
+                .updateById(eq(id), eq("label"), eq(dateTime), eq(ZoneOffset.UTC), updatedAtCaptor.capture());
+        assertNotNull(updatedAtCaptor.getValue());
+        verify(timeZoneRepository, times(0)).findById(id);
+        verify(timeZoneRepository, times(0)).save(any());
+    }
 
-        assertEquals("label", capturedTimeZone.getLabel());
-        assertEquals(LocalDateTime.of(2024, Month.JANUARY, 1, 0, 0, 0), capturedTimeZone.getDateTime());
-        assertEquals(ZoneOffset.UTC, capturedTimeZone.getOffsetFromUTC());
-        assertEquals(timeZone.getDateTime(), capturedTimeZone.getCreatedAt());
-        assertNotEquals(timeZone.getUpdatedAt(), capturedTimeZone.getUpdatedAt());
+    @Test
+    public void whenUpdateTimeZoneWithStaleVersion_thenThrow() {
+        // Given
+        Long id = 1L;
+        TimeZone timeZone = new TimeZone("label", LocalDateTime.of(2024, Month.JANUARY, 1, 0, 0, 0), ZoneOffset.UTC);
+        when(timeZoneRepository.updateByIdAndVersionIn(eq(id), eq(List.of(3L)), any(), any(), any(), any())).thenReturn(0);
+        when(timeZoneRepository.existsById(id)).thenReturn(true);
+
+        // When and Then
+        assertThrows(TimeZoneVersionException.class, () -> timeZoneService.update(id, timeZone, List.of(3L)));
+        verify(timeZoneRepository, times(0)).updateById(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void whenDeleteNonExistingTimeZoneWithVersion_thenThrowNotFound() {
+        // Given
+        Long id = 1L;
+        when(timeZoneRepository.deleteByIdAndVersionIn(id, List.of(3L))).thenReturn(0);
+        when(timeZoneRepository.existsById(id)).thenReturn(false);
+
+        // When and Then
+        assertThrows(TimeZoneNotFoundException.class, () -> timeZoneService.delete(id, List.of(3L)));
     }
 
     @Test
     public void whenDeleteNonExistingTimeZone_thenThrow() {
         // Given
         Long id = 1L;
-        when(timeZoneRepository.findById(id)).thenReturn(Optional.empty());
+        when(timeZoneRepository.deleteOneById(id)).thenReturn(0);
 
-        try {
-            // When
-            timeZoneService.delete(id);
-        } catch (Exception e) {
-            // Then
-            verify(timeZoneRepository, times(1)).findById(id);
-            assertInstanceOf(TimeZoneNotFoundException.class, e);
-            verify(timeZoneRepository, times(0)).deleteById(id);
-        }
+        // When and Then
+        assertThrows(TimeZoneNotFoundException.class, () -> timeZoneService.delete(id, null));
+        verify(timeZoneRepository, times(0)).findById(id);
     }
 
     @Test
-    public void whenDeleteExistingTimeZone_thenSucceed() throws TimeZoneNotFoundException {
+    public void whenDeleteExistingTimeZone_thenSucceed() throws TimeZoneNotFoundException, TimeZoneVersionException {
         // Given
         Long id = 1L;
-        TimeZone timeZone = new TimeZone();
-        when(timeZoneRepository.findById(id)).thenReturn(Optional.of(timeZone));
+        when(timeZoneRepository.deleteOneById(id)).thenReturn(1);
 
         // When
-        timeZoneService.delete(id);
+        timeZoneService.delete(id, null);
 
         // Then
-        verify(timeZoneRepository, times(1)).findById(id);
-        verify(timeZoneRepository, times(1)).deleteById(id);
+        verify(timeZoneRepository, times(1)).deleteOneById(id);
+        verify(timeZoneRepository, times(0)).findById(id);
+        verify(timeZoneTombstoneRepository, times(1)).save(any(TimeZoneTombstone.class));
+        verify(eventPublisher, times(1)).publishEvent(new TimeZoneChange(TimeZoneChange.Type.DELETED, id, null));
+    }
+
+    private static TimeZone fullTimeZoneWithId(Long id) {
+        LocalDateTime dateTime = LocalDateTime.of(2024, Month.JANUARY, 1, 0, 0, 0);
+        TimeZone timeZone = new TimeZone("label", dateTime, ZoneOffset.UTC, dateTime, dateTime);
+        timeZone.setId(id);
+        return timeZone;
+    }
+
+    private static TimeZone timeZoneWithId(Long id) {
+        TimeZone timeZone = new TimeZone();
+        timeZone.setId(id);
+        return timeZone;
     }
 }
\ No newline at end of file
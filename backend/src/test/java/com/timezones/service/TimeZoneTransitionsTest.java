@@ -0,0 +1,91 @@
+package com.timezones.service;
+
+import com.timezones.domain.service.TimeZoneTransitions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.time.zone.ZoneRulesProvider;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TimeZoneTransitionsTest {
+
+    @Test
+    public void whenInstantAroundDaylightSavingTime_thenReturnOffsetOfThatInstant() {
+        // Given
+        TimeZoneTransitions transitions = TimeZoneTransitions.of(ZoneId.of("Europe/Paris").getRules(), 2000, 2030);
+
+        // When and Then
+        assertEquals(3600, transitions.offsetAt(Instant.parse("2024-01-15T12:00:00Z").getEpochSecond()));
+        assertEquals(7200, transitions.offsetAt(Instant.parse("2024-07-15T12:00:00Z").getEpochSecond()));
+        assertEquals(3600, transitions.offsetAt(Instant.parse("2024-03-31T00:59:59Z").getEpochSecond()));
+        assertEquals(7200, transitions.offsetAt(Instant.parse("2024-03-31T01:00:00Z").getEpochSecond()));
+        assertEquals(7200, transitions.offsetAt(Instant.parse("2024-10-27T00:59:59Z").getEpochSecond()));
+        assertEquals(3600, transitions.offsetAt(Instant.parse("2024-10-27T01:00:00Z").getEpochSecond()));
+        assertEquals(62, transitions.size());
+    }
+
+    @Test
+    public void whenLocalTimeInGapOrOverlap_thenReturnOffsetBeforeTransition() {
+        // Given
+        TimeZoneTransitions transitions = TimeZoneTransitions.of(ZoneId.of("Europe/Paris").getRules(), 2000, 2030);
+
+        // When and Then
+        assertEquals(3600, transitions.offsetAtLocal(local("2024-03-31T01:59:59")));
+        assertEquals(3600, transitions.offsetAtLocal(local("2024-03-31T02:30:00")));
+        assertEquals(7200, transitions.offsetAtLocal(local("2024-03-31T03:00:00")));
+        assertEquals(7200, transitions.offsetAtLocal(local("2024-10-27T01:59:59")));
+        assertEquals(7200, transitions.offsetAtLocal(local("2024-10-27T02:30:00")));
+        assertEquals(3600, transitions.offsetAtLocal(local("2024-10-27T03:00:00")));
+    }
+
+    @Test
+    public void whenAnyZone_thenMatchZoneRules() {
+        for (String zoneId : ZoneRulesProvider.getAvailableZoneIds()) {
+            // Given
+            ZoneRules rules = ZoneRulesProvider.getRules(zoneId, false);
+            TimeZoneTransitions transitions = TimeZoneTransitions.of(rules, 1990, 2040);
+
+            // When and Then, in and out of the window, on both sides of every transition
+            for (long second = local("1985-01-01T00:00:00"); second < local("2045-01-01T00:00:00"); second += 260461) {
+                assertMatchesZoneRules(zoneId, rules, transitions, second);
+            }
+            ZoneOffsetTransition transition = rules.nextTransition(Instant.parse("1985-01-01T00:00:00Z"));
+            while (transition != null && transition.getInstant().isBefore(Instant.parse("2045-01-01T00:00:00Z"))) {
+                for (long second : new long[] {
+                        transition.toEpochSecond() - 1,
+                        transition.toEpochSecond(),
+                        transition.getDateTimeBefore().toEpochSecond(ZoneOffset.UTC) - 1,
+                        transition.getDateTimeBefore().toEpochSecond(ZoneOffset.UTC),
+                        transition.getDateTimeAfter().toEpochSecond(ZoneOffset.UTC) - 1,
+                        transition.getDateTimeAfter().toEpochSecond(ZoneOffset.UTC)
+                }) {
+                    assertMatchesZoneRules(zoneId, rules, transitions, second);
+                }
+                transition = rules.nextTransition(transition.getInstant());
+            }
+        }
+    }
+
+    private static void assertMatchesZoneRules(String zoneId, ZoneRules rules, TimeZoneTransitions transitions,
+                                               long second) {
+        assertEquals(rules.getOffset(Instant.ofEpochSecond(second)).getTotalSeconds(), transitions.offsetAt(second),
+                zoneId);
+        assertEquals(
+                ZonedDateTime.of(LocalDateTime.ofEpochSecond(second, 0, ZoneOffset.UTC), ZoneId.of(zoneId))
+                        .toEpochSecond(),
+                second - transitions.offsetAtLocal(second),
+                zoneId
+        );
+    }
+
+    private static long local(String localDateTime) {
+        return LocalDateTime.parse(localDateTime).toEpochSecond(ZoneOffset.UTC);
+    }
+}
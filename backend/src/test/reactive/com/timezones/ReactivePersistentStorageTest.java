@@ -0,0 +1,42 @@
+package com.timezones;
+
+import com.timezones.domain.model.TimeZone;
+import com.timezones.domain.service.ReactiveTimeZoneService;
+import com.timezones.domain.service.TimeZoneService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReactivePersistentStorageTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void whenReactiveProfileIsAlsoActive_thenServeTheSameFile() {
+        // Given
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TimeZonesApplication.class).run(
+                "--spring.profiles.active=persistent,reactive",
+                "--server.port=0",
+                "--timezones.storage.directory=" + directory
+        )) {
+            context.getBean(TimeZoneService.class)
+                    .create(new TimeZone("Europe/Paris", LocalDateTime.of(2024, 1, 1, 0, 0), ZoneOffset.ofHours(1)));
+
+            // When
+            List<TimeZone> timeZones = context.getBean(ReactiveTimeZoneService.class).getAll().collectList().block();
+
+            // Then
+            assertEquals(1, timeZones.size());
+            assertEquals("Europe/Paris", timeZones.get(0).getLabel());
+        }
+    }
+}
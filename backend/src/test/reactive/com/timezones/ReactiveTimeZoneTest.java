@@ -0,0 +1,148 @@
+package com.timezones;
+
+import com.timezones.api.dto.TimeZoneDto;
+import com.timezones.api.repository.TimeZoneRepository;
+import com.timezones.api.repository.TimeZoneTombstoneRepository;
+import com.timezones.domain.model.TimeZone;
+import com.timezones.domain.model.TimeZoneTombstone;
+import com.timezones.domain.service.ReactiveTimeZoneService;
+import com.timezones.domain.service.TimeZoneService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+@ActiveProfiles("reactive")
+class ReactiveTimeZoneTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private TimeZoneService timeZoneService;
+
+    @Autowired
+    private ReactiveTimeZoneService reactiveTimeZoneService;
+
+    @Autowired
+    private TimeZoneRepository timeZoneRepository;
+
+    @Autowired
+    private TimeZoneTombstoneRepository timeZoneTombstoneRepository;
+
+    @Test
+    void whenCreateUpdateAndDelete_thenTheReactiveApiKeepsTheServletContract() {
+        String label = "Reactive/" + System.nanoTime();
+        webTestClient.post().uri("/api/timezones")
+                .bodyValue(Map.of("label", label, "dateTime", "2024-01-01T00:00:00", "offsetFromUTC", "+02:00"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(String.class).isEqualTo("Time zone created successfully");
+
+        TimeZoneDto created = findByLabel(label);
+        assertNotNull(created);
+        assertEquals("+02:00", created.getOffsetFromUTC());
+
+        webTestClient.get().uri("/api/timezones/{id}", created.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.dateTime").isEqualTo("2024-01-01T00:00:00");
+
+        webTestClient.patch().uri("/api/timezones/{id}", created.getId())
+                .bodyValue(Map.of("label", label, "dateTime", "2024-06-01T12:30:00", "offsetFromUTC", "-05:00"))
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.get().uri("/api/timezones/{id}", created.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.dateTime").isEqualTo("2024-06-01T12:30:00")
+                .jsonPath("$.offsetFromUTC").isEqualTo("-05:00");
+
+        webTestClient.delete().uri("/api/timezones/{id}", created.getId())
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.get().uri("/api/timezones/{id}", created.getId())
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody(String.class).isEqualTo("Time zone with id: " + created.getId() + " not found");
+    }
+
+    @Test
+    void whenCreateWithoutLabel_thenBadRequest() {
+        webTestClient.post().uri("/api/timezones")
+                .bodyValue(Map.of("dateTime", "2024-01-01T00:00:00", "offsetFromUTC", "+02:00"))
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void whenUpdateUnknownId_thenNotFound() {
+        webTestClient.patch().uri("/api/timezones/{id}", Long.MAX_VALUE)
+                .bodyValue(Map.of("label", "Europe/Paris", "dateTime", "2024-01-01T00:00:00", "offsetFromUTC", "+02:00"))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void whenBothStacksCreateInTurn_thenTheirIdsNeverCollide() {
+        // Given
+        Set<Long> ids = new HashSet<>();
+
+        // When
+        for (int i = 0; i < 60; i++) {
+            TimeZone jpa = newTimeZone("Jpa/" + i);
+            timeZoneService.create(jpa);
+            TimeZone reactive = reactiveTimeZoneService.create(newTimeZone("Reactive/" + i)).block();
+
+            // Then
+            assertTrue(ids.add(jpa.getId()));
+            assertTrue(ids.add(reactive.getId()));
+        }
+    }
+
+    @Test
+    void whenTombstoneCannotBeWritten_thenKeepTheTimeZone() {
+        // Given
+        TimeZone timeZone = reactiveTimeZoneService.create(newTimeZone("Reactive/tombstone")).block();
+        timeZoneTombstoneRepository.save(new TimeZoneTombstone(timeZone.getId(), LocalDateTime.now()));
+
+        // When
+        assertThrows(RuntimeException.class, () -> reactiveTimeZoneService.delete(timeZone.getId()).block());
+
+        // Then
+        assertTrue(timeZoneRepository.findById(timeZone.getId()).isPresent());
+    }
+
+    private static TimeZone newTimeZone(String label) {
+        return new TimeZone(label, LocalDateTime.of(2024, 1, 1, 0, 0), ZoneOffset.ofHours(1));
+    }
+
+    private TimeZoneDto findByLabel(String label) {
+        List<TimeZoneDto> timeZones = webTestClient.get().uri("/api/timezones")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TimeZoneDto.class)
+                .returnResult()
+                .getResponseBody();
+        return timeZones.stream().filter(timeZone -> label.equals(timeZone.getLabel())).findFirst().orElse(null);
+    }
+}